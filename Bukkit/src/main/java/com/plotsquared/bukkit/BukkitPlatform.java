@@ -96,6 +96,7 @@ import com.plotsquared.core.plot.PlotAreaTerrainType;
 import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.comment.CommentManager;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.plot.world.SinglePlotArea;
@@ -430,6 +431,8 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             }, TaskTime.ticks(1L));
         }
 
+        // Cached analyses of the plots queues write to are outdated once the blocks are written
+        this.globalBlockQueue().registerWriteListener(PlotAnalysisCache::markModified);
         plotSquared.startExpiryTasks();
 
         // Once the server has loaded force updating all generators known to P2
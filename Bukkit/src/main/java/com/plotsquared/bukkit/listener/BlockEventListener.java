@@ -34,9 +34,11 @@ import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.permissions.Permission;
+import com.plotsquared.core.player.PlotOccupancy;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.implementations.BlockBurnFlag;
 import com.plotsquared.core.plot.flag.implementations.BlockIgnitionFlag;
 import com.plotsquared.core.plot.flag.implementations.BreakFlag;
@@ -61,6 +63,7 @@ import com.plotsquared.core.plot.flag.implementations.SoilDryFlag;
 import com.plotsquared.core.plot.flag.implementations.VineGrowFlag;
 import com.plotsquared.core.plot.flag.types.BlockTypeWrapper;
 import com.plotsquared.core.plot.flag.types.BooleanFlag;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.Permissions;
 import com.plotsquared.core.util.task.TaskManager;
@@ -149,12 +152,12 @@ public class BlockEventListener implements Listener {
     @EventHandler
     public void onRedstoneEvent(BlockRedstoneEvent event) {
         Block block = event.getBlock();
-        Location location = BukkitUtil.adapt(block.getLocation());
-        PlotArea area = location.getPlotArea();
+        ChunkPlotCache cache = ChunkPlotCache.of(block.getWorld().getName());
+        PlotArea area = cache.getPlotArea(block.getX(), block.getY(), block.getZ());
         if (area == null) {
             return;
         }
-        Plot plot = location.getOwnedPlot();
+        Plot plot = cache.getOwnedPlot(block.getX(), block.getY(), block.getZ());
         if (plot == null) {
             if (area.isRoadFlags() && !area.getRoadFlag(RedstoneFlag.class)) {
                 event.setNewCurrent(0);
@@ -196,9 +199,15 @@ public class BlockEventListener implements Listener {
             }
         }
         if (Settings.Redstone.DISABLE_UNOCCUPIED) {
-            for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
-                if (plot.equals(player.getCurrentPlot())) {
-                    return;
+            if (PlotOccupancy.isOccupied(plot)) {
+                return;
+            }
+            if (!Settings.Enabled_Components.EVENTS) {
+                // Without plot events the last plot is not tracked, so fall back to the player locations
+                for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
+                    if (plot.equals(player.getCurrentPlot())) {
+                        return;
+                    }
                 }
             }
             event.setNewCurrent(0);
@@ -208,12 +217,8 @@ public class BlockEventListener implements Listener {
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onPhysicsEvent(BlockPhysicsEvent event) {
         Block block = event.getBlock();
-        Location location = BukkitUtil.adapt(block.getLocation());
-        PlotArea area = location.getPlotArea();
-        if (area == null) {
-            return;
-        }
-        Plot plot = area.getOwnedPlotAbs(location);
+        ChunkPlotCache cache = ChunkPlotCache.of(block.getWorld().getName());
+        Plot plot = cache.getOwnedPlotAbs(block.getX(), block.getY(), block.getZ());
         if (plot == null) {
             return;
         }
@@ -249,13 +254,15 @@ public class BlockEventListener implements Listener {
                     switch (block.getType()) {
                         case PISTON, STICKY_PISTON -> {
                             org.bukkit.block.data.Directional piston = (org.bukkit.block.data.Directional) block.getBlockData();
+                            int x = block.getX();
+                            int z = block.getZ();
                             switch (piston.getFacing()) {
-                                case EAST -> location = location.add(1, 0, 0);
-                                case SOUTH -> location = location.add(-1, 0, 0);
-                                case WEST -> location = location.add(0, 0, 1);
-                                case NORTH -> location = location.add(0, 0, -1);
+                                case EAST -> x++;
+                                case SOUTH -> x--;
+                                case WEST -> z++;
+                                case NORTH -> z--;
                             }
-                            Plot newPlot = area.getOwnedPlotAbs(location);
+                            Plot newPlot = cache.getOwnedPlotAbs(x, block.getY(), z);
                             if (!plot.equals(newPlot)) {
                                 event.setCancelled(true);
                                 plot.debug("Prevented piston update because of invalid edge piston detection");
@@ -428,6 +435,47 @@ public class BlockEventListener implements Listener {
         event.setCancelled(true);
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlaced(BlockPlaceEvent event) {
+        Plot plot = BukkitUtil.adapt(event.getBlock().getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBroken(BlockBreakEvent event) {
+        Plot plot = BukkitUtil.adapt(event.getBlock().getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlowed(BlockFromToEvent event) {
+        Block to = event.getToBlock();
+        Plot plot = ChunkPlotCache.of(to.getWorld().getName()).getOwnedPlot(to.getX(), to.getY(), to.getZ());
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtended(BlockPistonExtendEvent event) {
+        Plot plot = BukkitUtil.adapt(event.getBlock().getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetracted(BlockPistonRetractEvent event) {
+        Plot plot = BukkitUtil.adapt(event.getBlock().getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBlockSpread(BlockSpreadEvent event) {
         Block block = event.getBlock();
@@ -751,35 +799,30 @@ public class BlockEventListener implements Listener {
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onChange(BlockFromToEvent event) {
         Block from = event.getBlock();
+        ChunkPlotCache cache = ChunkPlotCache.of(from.getWorld().getName());
 
         // Check liquid flow flag inside of origin plot too
-        final Location fLocation = BukkitUtil.adapt(from.getLocation());
-        final PlotArea fromArea = fLocation.getPlotArea();
-        if (fromArea != null) {
-            final Plot plot = fromArea.getOwnedPlot(fLocation);
-            if (plot != null && plot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.DISABLED && event
-                    .getBlock()
-                    .isLiquid()) {
-                plot.debug("Liquid could not flow because liquid-flow = disabled");
-                event.setCancelled(true);
-                return;
-            }
+        final PlotArea fromArea = cache.getPlotArea(from.getX(), from.getY(), from.getZ());
+        final Plot fromPlot = fromArea == null ? null : cache.getOwnedPlot(from.getX(), from.getY(), from.getZ());
+        if (fromPlot != null && fromPlot.getFlag(LiquidFlowFlag.class) == LiquidFlowFlag.FlowStatus.DISABLED && event
+                .getBlock()
+                .isLiquid()) {
+            fromPlot.debug("Liquid could not flow because liquid-flow = disabled");
+            event.setCancelled(true);
+            return;
         }
 
         Block to = event.getToBlock();
-        Location tLocation = BukkitUtil.adapt(to.getLocation());
-        PlotArea area = tLocation.getPlotArea();
+        PlotArea area = cache.getPlotArea(to.getX(), to.getY(), to.getZ());
         if (area == null) {
             if (from.getType() == Material.DRAGON_EGG && fromArea != null) {
                 event.setCancelled(true);
             }
             return;
         }
-        Plot plot = area.getOwnedPlot(tLocation);
+        Plot plot = cache.getOwnedPlot(to.getX(), to.getY(), to.getZ());
 
         if (from.getType() == Material.DRAGON_EGG && fromArea != null) {
-            final Plot fromPlot = fromArea.getOwnedPlot(fLocation);
-
             if (fromPlot != null || plot != null) {
                 if ((fromPlot == null || !fromPlot.equals(plot)) && (plot == null || !plot.equals(fromPlot))) {
                     event.setCancelled(true);
@@ -789,7 +832,7 @@ public class BlockEventListener implements Listener {
         }
 
         if (plot != null) {
-            if (!area.contains(fLocation.getX(), fLocation.getZ()) || !Objects.equals(plot, area.getOwnedPlot(fLocation))) {
+            if (!area.contains(from.getX(), from.getZ()) || !Objects.equals(plot, fromPlot)) {
                 event.setCancelled(true);
                 return;
             }
@@ -805,7 +848,7 @@ public class BlockEventListener implements Listener {
                 plot.debug("Liquid could not flow because liquid-flow = disabled");
                 event.setCancelled(true);
             }
-        } else if (!area.contains(fLocation.getX(), fLocation.getZ()) || !Objects.equals(null, area.getOwnedPlot(fLocation))) {
+        } else if (!area.contains(from.getX(), from.getZ()) || fromPlot != null) {
             event.setCancelled(true);
         } else if (event.getBlock().isLiquid()) {
             final org.bukkit.Location location = event.getBlock().getLocation();
@@ -1054,6 +1097,9 @@ public class BlockEventListener implements Listener {
             }
         }
         event.blockList().removeIf(blox -> !plot.equals(area.getOwnedPlot(BukkitUtil.adapt(blox.getLocation()))));
+        if (!event.isCancelled() && !event.blockList().isEmpty()) {
+            PlotAnalysisCache.markModified(plot);
+        }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
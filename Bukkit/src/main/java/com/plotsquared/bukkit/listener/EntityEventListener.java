@@ -38,6 +38,7 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotHandler;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.implementations.DisablePhysicsFlag;
 import com.plotsquared.core.plot.flag.implementations.EntityChangeBlockFlag;
 import com.plotsquared.core.plot.flag.implementations.ExplosionFlag;
@@ -318,6 +319,9 @@ public class EntityEventListener implements Listener {
                         iterator.remove();
                     }
                 }
+                if (!event.blockList().isEmpty()) {
+                    PlotAnalysisCache.markModified(origin);
+                }
                 return;
             } else {
                 plot.debug("Explosion was cancelled because explosion = false");
@@ -330,6 +334,14 @@ public class EntityEventListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangedBlock(EntityChangeBlockEvent event) {
+        Plot plot = BukkitUtil.adapt(event.getBlock().getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPeskyMobsChangeTheWorldLikeWTFEvent(EntityChangeBlockEvent event) {
         Entity e = event.getEntity();
@@ -27,6 +27,7 @@ package com.plotsquared.bukkit.listener;
 
 import com.destroystokyo.paper.MaterialTags;
 import com.google.common.base.Charsets;
+import com.google.common.eventbus.Subscribe;
 import com.google.inject.Inject;
 import com.plotsquared.bukkit.player.BukkitPlayer;
 import com.plotsquared.bukkit.util.BukkitEntityUtil;
@@ -36,6 +37,10 @@ import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.Caption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
+import com.plotsquared.core.events.PlayerPlotDeniedEvent;
+import com.plotsquared.core.events.PlayerPlotHelperEvent;
+import com.plotsquared.core.events.PlayerPlotTrustedEvent;
+import com.plotsquared.core.events.PlotFlagEvent;
 import com.plotsquared.core.listener.PlayerBlockEventType;
 import com.plotsquared.core.listener.PlotListener;
 import com.plotsquared.core.location.Location;
@@ -48,6 +53,7 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotInventory;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.FlagContainer;
 import com.plotsquared.core.plot.flag.implementations.AnimalInteractFlag;
 import com.plotsquared.core.plot.flag.implementations.BlockedCmdsFlag;
@@ -71,6 +77,7 @@ import com.plotsquared.core.plot.flag.implementations.UntrustedVisitFlag;
 import com.plotsquared.core.plot.flag.implementations.VehicleBreakFlag;
 import com.plotsquared.core.plot.flag.implementations.VehicleUseFlag;
 import com.plotsquared.core.plot.flag.implementations.VillagerInteractFlag;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.MathMan;
@@ -156,8 +163,11 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
 import java.util.regex.Pattern;
 
 /**
@@ -169,6 +179,7 @@ public class PlayerEventListener extends PlotListener implements Listener {
     private final EventDispatcher eventDispatcher;
     private final WorldEdit worldEdit;
     private final PlotAreaManager plotAreaManager;
+    private final Map<UUID, PlotBounds> plotBounds = new ConcurrentHashMap<>();
     // To prevent recursion
     private boolean tmpTeleport = true;
     private Field fieldPlayer;
@@ -194,6 +205,7 @@ public class PlayerEventListener extends PlotListener implements Listener {
         this.eventDispatcher = eventDispatcher;
         this.worldEdit = worldEdit;
         this.plotAreaManager = plotAreaManager;
+        eventDispatcher.registerListener(this);
     }
 
     @EventHandler
@@ -426,6 +438,7 @@ public class PlayerEventListener extends PlotListener implements Listener {
                 }
             }
         }
+        this.plotBounds.remove(player.getUniqueId());
         playerMove(event);
     }
 
@@ -456,6 +469,7 @@ public class PlayerEventListener extends PlotListener implements Listener {
 
                     List<Entity> passengers = vehicle.getPassengers();
 
+                    this.plotBounds.remove(player.getUniqueId());
                     this.playerMove(moveTmp);
                     org.bukkit.Location dest;
                     if (moveTmp.isCancelled()) {
@@ -501,189 +515,200 @@ public class PlayerEventListener extends PlotListener implements Listener {
     public void playerMove(PlayerMoveEvent event) {
         org.bukkit.Location from = event.getFrom();
         org.bukkit.Location to = event.getTo();
-        int x2;
-        if (MathMan.roundInt(from.getX()) != (x2 = MathMan.roundInt(to.getX()))) {
-            Player player = event.getPlayer();
+        int x1 = MathMan.roundInt(from.getX());
+        int x2 = MathMan.roundInt(to.getX());
+        int z1 = MathMan.roundInt(from.getZ());
+        int z2 = MathMan.roundInt(to.getZ());
+        if (x1 == x2 && z1 == z2) {
+            return;
+        }
+        Player player = event.getPlayer();
+        // Moving inside the plot the player is already in cannot cause an entry, exit or border crossing
+        PlotBounds bounds = this.plotBounds.get(player.getUniqueId());
+        if (bounds != null && bounds.contains(to.getWorld().getName(), to.getBlockX(), to.getBlockZ())) {
             BukkitPlayer pp = BukkitUtil.adapt(player);
-            // Cancel teleport
-            if (TaskManager.removeFromTeleportQueue(pp.getName())) {
-                pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
-            }
-            // Set last location
-            Location location = BukkitUtil.adapt(to);
-            try (final MetaDataAccess<Location> lastLocationAccess =
-                         pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
-                lastLocationAccess.remove();
-            }
-            PlotArea area = location.getPlotArea();
-            if (area == null) {
-                try (final MetaDataAccess<Plot> lastPlotAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
-                    lastPlotAccess.remove();
-                }
-                return;
-            }
-            Plot now = area.getPlot(location);
             Plot lastPlot;
             try (final MetaDataAccess<Plot> lastPlotAccess =
                          pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
                 lastPlot = lastPlotAccess.get().orElse(null);
             }
-            if (now == null) {
-                try (final MetaDataAccess<Boolean> kickAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
-                    if (lastPlot != null && !plotExit(pp, lastPlot) && this.tmpTeleport && !kickAccess.get().orElse(false)) {
-                        pp.sendMessage(
-                                TranslatableCaption.of("permission.no_permission_event"),
-                                Template.of("node", String.valueOf(Permission.PERMISSION_ADMIN_EXIT_DENIED))
-                        );
-                        this.tmpTeleport = false;
-                        if (lastPlot.equals(BukkitUtil.adapt(from).getPlot())) {
-                            player.teleport(from);
-                        } else {
-                            player.teleport(player.getWorld().getSpawnLocation());
-                        }
-                        this.tmpTeleport = true;
-                        event.setCancelled(true);
-                        return;
-                    }
+            if (bounds.plot().equals(lastPlot)) {
+                if (TaskManager.removeFromTeleportQueue(pp.getName())) {
+                    pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
                 }
-            } else if (now.equals(lastPlot)) {
-                ForceFieldListener.handleForcefield(player, pp, now);
-            } else if (!plotEntry(pp, now) && this.tmpTeleport) {
-                pp.sendMessage(
-                        TranslatableCaption.of("deny.no_enter"),
-                        Template.of("plot", now.toString())
-                );
-                this.tmpTeleport = false;
-                to.setX(from.getBlockX());
-                to.setY(from.getBlockY());
-                to.setZ(from.getBlockZ());
-                player.teleport(event.getTo());
-                this.tmpTeleport = true;
+                ForceFieldListener.handleForcefield(player, pp, bounds.plot());
                 return;
             }
-            int border = area.getBorder();
-            int x1;
-            if (x2 > border && this.tmpTeleport) {
-                if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setX(border - 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getX()) <= border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (x2 < -border && this.tmpTeleport) {
-                if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setX(-border + 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getX()) >= -border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (((x1 = MathMan.roundInt(from.getX())) >= border && x2 <= border) || (x1 <= -border && x2 >= -border)) {
-                if (Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
-                }
-            }
         }
-        int z2;
-        if (MathMan.roundInt(from.getZ()) != (z2 = MathMan.roundInt(to.getZ()))) {
-            Player player = event.getPlayer();
-            BukkitPlayer pp = BukkitUtil.adapt(player);
-            // Cancel teleport
-            if (TaskManager.removeFromTeleportQueue(pp.getName())) {
-                pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
-            }
-            // Set last location
-            Location location = BukkitUtil.adapt(to);
-            try (final MetaDataAccess<Location> lastLocationAccess =
-                         pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
-                lastLocationAccess.set(location);
-            }
-            PlotArea area = location.getPlotArea();
-            if (area == null) {
-                try (final MetaDataAccess<Plot> lastPlotAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
-                    lastPlotAccess.remove();
-                }
-                return;
-            }
-            Plot plot = area.getPlot(location);
-            Plot lastPlot;
+        this.plotBounds.remove(player.getUniqueId());
+        BukkitPlayer pp = BukkitUtil.adapt(player);
+        // Cancel teleport
+        if (TaskManager.removeFromTeleportQueue(pp.getName())) {
+            pp.sendMessage(TranslatableCaption.of("teleport.teleport_failed"));
+        }
+        // Set last location
+        Location location = BukkitUtil.adapt(to);
+        try (final MetaDataAccess<Location> lastLocationAccess =
+                     pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LOCATION)) {
+            lastLocationAccess.remove();
+        }
+        PlotArea area = location.getPlotArea();
+        if (area == null) {
             try (final MetaDataAccess<Plot> lastPlotAccess =
                          pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
-                lastPlot = lastPlotAccess.get().orElse(null);
+                lastPlotAccess.remove();
             }
-            if (plot == null) {
-                try (final MetaDataAccess<Boolean> kickAccess =
-                             pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
-                    if (lastPlot != null && !plotExit(pp, lastPlot) && this.tmpTeleport && !kickAccess.get().orElse(false)) {
-                        pp.sendMessage(
-                                TranslatableCaption.of("permission.no_permission_event"),
-                                Template.of("node", String.valueOf(Permission.PERMISSION_ADMIN_EXIT_DENIED))
-                        );
-                        this.tmpTeleport = false;
-                        if (lastPlot.equals(BukkitUtil.adapt(from).getPlot())) {
-                            player.teleport(from);
-                        } else {
-                            player.teleport(player.getWorld().getSpawnLocation());
-                        }
-                        this.tmpTeleport = true;
-                        event.setCancelled(true);
-                        return;
+            return;
+        }
+        // Read before the lookup, so that a change made while the plot is resolved is not cached
+        long generation = ChunkPlotCache.of(location.getWorldName()).getGeneration();
+        Plot now = area.getPlot(location);
+        Plot lastPlot;
+        try (final MetaDataAccess<Plot> lastPlotAccess =
+                     pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
+            lastPlot = lastPlotAccess.get().orElse(null);
+        }
+        if (now == null) {
+            try (final MetaDataAccess<Boolean> kickAccess =
+                         pp.accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_KICK)) {
+                if (lastPlot != null && !plotExit(pp, lastPlot) && this.tmpTeleport && !kickAccess.get().orElse(false)) {
+                    pp.sendMessage(
+                            TranslatableCaption.of("permission.no_permission_event"),
+                            Template.of("node", String.valueOf(Permission.PERMISSION_ADMIN_EXIT_DENIED))
+                    );
+                    this.tmpTeleport = false;
+                    if (lastPlot.equals(BukkitUtil.adapt(from).getPlot())) {
+                        player.teleport(from);
+                    } else {
+                        player.teleport(player.getWorld().getSpawnLocation());
                     }
+                    this.tmpTeleport = true;
+                    event.setCancelled(true);
+                    return;
                 }
-            } else if (plot.equals(lastPlot)) {
-                ForceFieldListener.handleForcefield(player, pp, plot);
-            } else if (!plotEntry(pp, plot) && this.tmpTeleport) {
-                pp.sendMessage(
-                        TranslatableCaption.of("deny.no_enter"),
-                        Template.of("plot", plot.toString())
-                );
+            }
+        } else if (now.equals(lastPlot)) {
+            ForceFieldListener.handleForcefield(player, pp, now);
+        } else if (!plotEntry(pp, now) && this.tmpTeleport) {
+            pp.sendMessage(
+                    TranslatableCaption.of("deny.no_enter"),
+                    Template.of("plot", now.toString())
+            );
+            this.tmpTeleport = false;
+            to.setX(from.getBlockX());
+            to.setY(from.getBlockY());
+            to.setZ(from.getBlockZ());
+            player.teleport(event.getTo());
+            this.tmpTeleport = true;
+            return;
+        }
+        int border = area.getBorder();
+        if (x1 != x2) {
+            this.handleBorder(pp, event, border, x1, x2, to::setX);
+        }
+        if (z1 != z2) {
+            this.handleBorder(pp, event, border, z1, z2, to::setZ);
+        }
+        if (now != null) {
+            this.cachePlotBounds(player, area, location, now, border, generation);
+        }
+    }
+
+    /**
+     * Keep a player inside the area border along one axis, or tell players that may bypass it when they cross it.
+     *
+     * @param pp     player
+     * @param event  move event
+     * @param border area border
+     * @param c1     coordinate moved from
+     * @param c2     coordinate moved to
+     * @param setter sets the coordinate of the destination
+     */
+    private void handleBorder(
+            BukkitPlayer pp,
+            PlayerMoveEvent event,
+            int border,
+            int c1,
+            int c2,
+            DoubleConsumer setter
+    ) {
+        if (c2 > border && this.tmpTeleport) {
+            if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                setter.accept(border - 1);
                 this.tmpTeleport = false;
-                player.teleport(from);
-                to.setX(from.getBlockX());
-                to.setY(from.getBlockY());
-                to.setZ(from.getBlockZ());
-                player.teleport(event.getTo());
+                event.getPlayer().teleport(event.getTo());
                 this.tmpTeleport = true;
-                return;
+                pp.sendMessage(TranslatableCaption.of("border.denied"));
+            } else if (c1 <= border) { // Only send if they just moved out of the border
+                pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
             }
-            int border = area.getBorder();
-            int z1;
-            if (z2 > border && this.tmpTeleport) {
-                if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setZ(border - 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getZ()) <= border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (z2 < -border && this.tmpTeleport) {
-                if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    to.setZ(-border + 1);
-                    this.tmpTeleport = false;
-                    player.teleport(event.getTo());
-                    this.tmpTeleport = true;
-                    pp.sendMessage(TranslatableCaption.of("border.denied"));
-                } else if (MathMan.roundInt(from.getZ()) >= -border) { // Only send if they just moved out of the border
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
-                }
-            } else if (((z1 = MathMan.roundInt(from.getZ())) >= border && z2 <= border) || (z1 <= -border && z2 >= -border)) {
-                if (Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
-                    pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
-                }
+        } else if (c2 < -border && this.tmpTeleport) {
+            if (!Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                setter.accept(-border + 1);
+                this.tmpTeleport = false;
+                event.getPlayer().teleport(event.getTo());
+                this.tmpTeleport = true;
+                pp.sendMessage(TranslatableCaption.of("border.denied"));
+            } else if (c1 >= -border) { // Only send if they just moved out of the border
+                pp.sendMessage(TranslatableCaption.of("border.bypass.exited"));
+            }
+        } else if ((c1 >= border && c2 <= border) || (c1 <= -border && c2 >= -border)) {
+            if (Permissions.hasPermission(pp, Permission.PERMISSION_ADMIN_BYPASS_BORDER)) {
+                pp.sendMessage(TranslatableCaption.of("border.bypass.entered"));
             }
         }
     }
 
+    /**
+     * Remember the bounds of the plot a player has just been placed in, so moves inside of it can skip the plot
+     * lookups. Only the part of the plot at the player's position is remembered, and only if the player is
+     * actually in the plot and no border can be crossed inside of it.
+     */
+    private void cachePlotBounds(Player player, PlotArea area, Location location, Plot now, int border, long generation) {
+        Plot lastPlot;
+        try (final MetaDataAccess<Plot> lastPlotAccess =
+                     BukkitUtil.adapt(player).accessTemporaryMetaData(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
+            lastPlot = lastPlotAccess.get().orElse(null);
+        }
+        Plot cell = area.getPlotAbs(location);
+        if (!now.equals(lastPlot) || cell == null || !player.getWorld().getName().equals(location.getWorldName())) {
+            return;
+        }
+        Location bottom = cell.getBottomAbs();
+        Location top = cell.getTopAbs();
+        if (bottom.getX() <= -border || bottom.getZ() <= -border || top.getX() >= border || top.getZ() >= border) {
+            return;
+        }
+        PlotBounds bounds = new PlotBounds(location.getWorldName(), generation, bottom.getX(), bottom.getZ(), top.getX(),
+                top.getZ(), now
+        );
+        if (bounds.contains(location.getWorldName(), location.getX(), location.getZ())) {
+            this.plotBounds.put(player.getUniqueId(), bounds);
+        }
+    }
+
+    // Who may enter or stay in a plot depends on these, so moves have to be checked the regular way again
+
+    @Subscribe
+    public void onPlotDenied(PlayerPlotDeniedEvent event) {
+        this.plotBounds.clear();
+    }
+
+    @Subscribe
+    public void onPlotTrusted(PlayerPlotTrustedEvent event) {
+        this.plotBounds.clear();
+    }
+
+    @Subscribe
+    public void onPlotHelper(PlayerPlotHelperEvent event) {
+        this.plotBounds.clear();
+    }
+
+    @Subscribe
+    public void onPlotFlag(PlotFlagEvent event) {
+        this.plotBounds.clear();
+    }
+
     @EventHandler(priority = EventPriority.LOW)
     public void onChat(AsyncPlayerChatEvent event) {
         if (event.isCancelled()) {
@@ -776,6 +801,7 @@ public class PlayerEventListener extends PlotListener implements Listener {
     public void onWorldChanged(PlayerChangedWorldEvent event) {
         Player player = event.getPlayer();
         BukkitPlayer pp = BukkitUtil.adapt(player);
+        this.plotBounds.remove(player.getUniqueId());
         // Delete last location
         Plot plot;
         try (final MetaDataAccess<Plot> lastPlotAccess =
@@ -1273,11 +1299,34 @@ public class PlayerEventListener extends PlotListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onLeave(PlayerQuitEvent event) {
         TaskManager.removeFromTeleportQueue(event.getPlayer().getName());
+        this.plotBounds.remove(event.getPlayer().getUniqueId());
         BukkitPlayer pp = BukkitUtil.adapt(event.getPlayer());
         pp.unregister();
         this.logout(pp.getUUID());
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmptied(PlayerBucketEmptyEvent event) {
+        this.markBucketModified(event.getBlockClicked(), event.getBlockFace());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFilled(PlayerBucketFillEvent event) {
+        this.markBucketModified(event.getBlockClicked(), event.getBlockFace());
+    }
+
+    private void markBucketModified(Block clicked, BlockFace face) {
+        // Depending on the fluid and the block, either the clicked block or its neighbour is changed
+        Plot plot = BukkitUtil.adapt(clicked.getLocation()).getOwnedPlot();
+        if (plot != null) {
+            PlotAnalysisCache.markModified(plot);
+        }
+        Plot relative = BukkitUtil.adapt(clicked.getRelative(face).getLocation()).getOwnedPlot();
+        if (relative != null && !relative.equals(plot)) {
+            PlotAnalysisCache.markModified(relative);
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onBucketFill(PlayerBucketFillEvent event) {
         Block blockClicked = event.getBlockClicked();
@@ -1777,4 +1826,17 @@ public class PlayerEventListener extends PlotListener implements Listener {
         }
     }
 
+    /**
+     * Part of a plot a player is known to be standing in. Only valid as long as no plot in the world
+     * has been claimed, merged or removed since it was recorded, and it is still the player's last plot.
+     */
+    private record PlotBounds(String world, long generation, int minX, int minZ, int maxX, int maxZ, Plot plot) {
+
+        boolean contains(String world, int x, int z) {
+            return x >= this.minX && x <= this.maxX && z >= this.minZ && z <= this.maxZ && this.world.equals(world)
+                    && ChunkPlotCache.of(world).getGeneration() == this.generation;
+        }
+
+    }
+
 }
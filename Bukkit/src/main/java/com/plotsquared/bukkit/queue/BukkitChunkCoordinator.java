@@ -30,6 +30,8 @@ import com.google.inject.assistedinject.Assisted;
 import com.plotsquared.bukkit.BukkitPlatform;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.plotsquared.core.util.task.PlotSquaredTask;
 import com.plotsquared.core.util.task.TaskManager;
@@ -48,6 +50,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -76,10 +79,13 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
     private final int totalSize;
     private final AtomicInteger expectedSize;
     private final AtomicInteger loadingChunks = new AtomicInteger();
+    private final QueuePriority priority;
+    private final GlobalBlockQueue blockQueue;
 
     private int batchSize;
     private PlotSquaredTask task;
-    private boolean shouldCancel;
+    private volatile boolean shouldCancel;
+    private volatile boolean paused;
     private boolean finished;
 
     @Inject
@@ -92,7 +98,8 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             @Assisted final @NonNull Runnable whenDone,
             @Assisted final @NonNull Consumer<Throwable> throwableConsumer,
             @Assisted final boolean unloadAfter,
-            @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers
+            @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers,
+            @Assisted final @NonNull QueuePriority priority
     ) {
         this.requestedChunks = new LinkedBlockingQueue<>(requestedChunks);
         this.availableChunks = new LinkedBlockingQueue<>();
@@ -107,14 +114,22 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         this.plugin = JavaPlugin.getPlugin(BukkitPlatform.class);
         this.bukkitWorld = Bukkit.getWorld(world.getName());
         this.progressSubscribers.addAll(progressSubscribers);
+        this.priority = priority;
+        this.blockQueue = PlotSquared.platform().globalBlockQueue();
     }
 
     @Override
     public void start() {
+        for (final ProgressSubscriber subscriber : this.progressSubscribers) {
+            subscriber.notifyStart(this);
+        }
         // Request initial batch
         this.requestBatch();
         // Wait until next tick to give the chunks a chance to be loaded
-        TaskManager.runTaskLater(() -> task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1)), TaskTime.ticks(1));
+        TaskManager.runTaskLater(() -> {
+            ChunkCoordinatorBudget.get().register(this.priority);
+            task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1));
+        }, TaskTime.ticks(1));
     }
 
     @Override
@@ -122,6 +137,21 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         shouldCancel = true;
     }
 
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    @Override
+    public void resume() {
+        paused = false;
+    }
+
+    @Override
+    public boolean isPaused() {
+        return paused;
+    }
+
     private void finish() {
         try {
             this.whenDone.run();
@@ -133,6 +163,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             }
             task.cancel();
             finished = true;
+            ChunkCoordinatorBudget.get().unregister(this.priority);
         }
     }
 
@@ -148,6 +179,18 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             finish();
             return;
         }
+        if (paused) {
+            return;
+        }
+
+        // Share the tick with other coordinators, and back off when the server is busy
+        final long allowance = Math.min(
+                ChunkCoordinatorBudget.get().getAllowance(this.priority),
+                TimeUnit.MILLISECONDS.toNanos(this.maxIterationTime)
+        );
+        if (allowance <= 0) {
+            return;
+        }
 
         Chunk chunk = this.availableChunks.poll();
         if (chunk == null) {
@@ -160,10 +203,10 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             }
             return;
         }
-        long[] iterationTime = new long[2];
+        final long start = System.nanoTime();
+        long iterationTime;
         int processedChunks = 0;
         do {
-            final long start = System.currentTimeMillis();
             try {
                 this.chunkConsumer.accept(BlockVector2.at(chunk.getX(), chunk.getZ()));
             } catch (final Throwable throwable) {
@@ -173,11 +216,9 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                 this.freeChunk(chunk);
             }
             processedChunks++;
-            final long end = System.currentTimeMillis();
-            // Update iteration time
-            iterationTime[0] = iterationTime[1];
-            iterationTime[1] = end - start;
-        } while (iterationTime[0] + iterationTime[1] < this.maxIterationTime * 2 && (chunk = availableChunks.poll()) != null);
+            iterationTime = System.nanoTime() - start;
+        } while (iterationTime < allowance && (chunk = availableChunks.poll()) != null);
+        ChunkCoordinatorBudget.get().spend(iterationTime);
         if (processedChunks < this.batchSize) {
             // Adjust batch size based on the amount of processed chunks per tick
             this.batchSize = processedChunks;
@@ -203,13 +244,18 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
      */
     private void requestBatch() {
         BlockVector2 chunk;
-        for (int i = 0; i < this.batchSize && (chunk = this.requestedChunks.poll()) != null; i++) {
+        for (int i = 0; i < this.batchSize && this.blockQueue.tryAcquireChunkLoad(); i++) {
+            if ((chunk = this.requestedChunks.poll()) == null) {
+                this.blockQueue.releaseChunkLoad();
+                break;
+            }
             // This required PaperLib to be bumped to version 1.0.4 to mark the request as urgent
             loadingChunks.incrementAndGet();
             PaperLib
                     .getChunkAtAsync(this.bukkitWorld, chunk.getX(), chunk.getZ(), true, true)
                     .whenComplete((chunkObject, throwable) -> {
                         loadingChunks.decrementAndGet();
+                        this.blockQueue.releaseChunkLoad();
                         if (throwable != null) {
                             throwable.printStackTrace();
                             // We want one less because this couldn't be processed
@@ -34,6 +34,7 @@ import com.plotsquared.core.inject.factory.ChunkCoordinatorFactory;
 import com.plotsquared.core.queue.BasicQueueCoordinator;
 import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.LocalChunk;
+import com.plotsquared.core.queue.PaletteSection;
 import com.plotsquared.core.util.ChunkUtil;
 import com.sk89q.jnbt.CompoundTag;
 import com.sk89q.worldedit.WorldEditException;
@@ -52,6 +53,7 @@ import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.block.Block;
 import org.bukkit.block.Container;
 import org.bukkit.block.data.BlockData;
@@ -59,6 +61,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 public class BukkitQueueCoordinator extends BasicQueueCoordinator {
@@ -67,6 +72,9 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     private final SideEffectSet lightingSideEffectSet;
     private final SideEffectSet edgeSideEffectSet;
     private final SideEffectSet edgeLightingSideEffectSet;
+    private final LongAdder writtenBlocks = new LongAdder();
+    private final LongAdder skippedBlocks = new LongAdder();
+    private final Map<BlockState, BlockData> blockDataCache = new IdentityHashMap<>();
     private org.bukkit.World bukkitWorld;
     @Inject
     private ChunkCoordinatorBuilderFactory chunkCoordinatorBuilderFactory;
@@ -98,6 +106,16 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
         return BukkitBlockUtil.get(block);
     }
 
+    @Override
+    public long getWrittenBlocks() {
+        return writtenBlocks.sum();
+    }
+
+    @Override
+    public long getSkippedBlocks() {
+        return skippedBlocks.sum();
+    }
+
     @Override
     public void start() {
         chunkCoordinator.start();
@@ -156,47 +174,52 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 if (localChunk == null) {
                     return;
                 }
-                for (int layer = 0; layer < localChunk.getBaseblocks().length; layer++) {
-                    BaseBlock[] blocksLayer = localChunk.getBaseblocks()[layer];
+                final PaletteSection<BaseBlock>[] blockSections = localChunk.getBlockSections();
+                // Regenerated chunks have just been rewritten, so a snapshot would be stale
+                final ChunkSnapshot snapshot = Settings.QUEUE.SKIP_UNCHANGED_BLOCKS && !isRegenChunk
+                        ? getBukkitWorld().getChunkAt(blockVector2.getX(), blockVector2.getZ())
+                        .getChunkSnapshot(false, false, false)
+                        : null;
+                final int worldMinSection = getBukkitWorld().getMinHeight() >> 4;
+                for (int layer = 0; layer < blockSections.length; layer++) {
+                    PaletteSection<BaseBlock> blocksLayer = blockSections[layer];
                     if (blocksLayer == null) {
                         continue;
                     }
-                    for (int j = 0; j < blocksLayer.length; j++) {
-                        if (blocksLayer[j] == null) {
-                            continue;
-                        }
-                        BaseBlock block = blocksLayer[j];
-
-                        if (block != null) {
-                            int lx = ChunkUtil.getX(j);
-                            int lz = ChunkUtil.getZ(j);
-                            int x = sx + lx;
-                            int y = ChunkUtil.getY(layer + localChunk.getMinSection(), j);
-                            int z = sz + lz;
-                            boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdge(y >> 4, lx, y & 15, lz, blockVector2,
-                                    localChunk
-                            );
-                            setWorldBlock(x, y, z, block, blockVector2, edge);
-                        }
+                    final int sectionY = layer + localChunk.getMinSection();
+                    if (snapshot != null && isUnchangedAirSection(blocksLayer, snapshot, sectionY - worldMinSection)) {
+                        skippedBlocks.add(PaletteSection.SIZE);
+                        continue;
                     }
+                    blocksLayer.forEach((j, block) -> {
+                        int lx = ChunkUtil.getX(j);
+                        int lz = ChunkUtil.getZ(j);
+                        int x = sx + lx;
+                        int y = ChunkUtil.getY(sectionY, j);
+                        int z = sz + lz;
+                        if (snapshot != null && isUnchanged(snapshot, lx, y, lz, block)) {
+                            skippedBlocks.increment();
+                            return;
+                        }
+                        boolean edge = Settings.QUEUE.UPDATE_EDGES && isEdge(y >> 4, lx, y & 15, lz, blockVector2,
+                                localChunk
+                        );
+                        setWorldBlock(x, y, z, block, blockVector2, edge);
+                    });
                 }
-                for (int layer = 0; layer < localChunk.getBiomes().length; layer++) {
-                    BiomeType[] biomesLayer = localChunk.getBiomes()[layer];
+                final PaletteSection<BiomeType>[] biomeSections = localChunk.getBiomeSections();
+                for (int layer = 0; layer < biomeSections.length; layer++) {
+                    PaletteSection<BiomeType> biomesLayer = biomeSections[layer];
                     if (biomesLayer == null) {
                         continue;
                     }
-                    for (int j = 0; j < biomesLayer.length; j++) {
-                        if (biomesLayer[j] == null) {
-                            continue;
-                        }
-                        BiomeType biome = biomesLayer[j];
-                        if (biome != null) {
-                            int x = sx + ChunkUtil.getX(j);
-                            int y = ChunkUtil.getY(layer, j);
-                            int z = sz + ChunkUtil.getZ(j);
-                            getWorld().setBiome(BlockVector3.at(x, y, z), biome);
-                        }
-                    }
+                    final int sectionY = layer + localChunk.getMinSection();
+                    biomesLayer.forEach((j, biome) -> {
+                        int x = sx + ChunkUtil.getX(j);
+                        int y = ChunkUtil.getY(sectionY, j);
+                        int z = sz + ChunkUtil.getZ(j);
+                        getWorld().setBiome(BlockVector3.at(x, y, z), biome);
+                    });
                 }
                 if (localChunk.getTiles().size() > 0) {
                     localChunk.getTiles().forEach((blockVector3, tag) -> {
@@ -231,6 +254,8 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                         .withConsumer(consumer)
                         .unloadAfter(isUnloadAfter())
                         .withProgressSubscribers(getProgressSubscribers())
+                        .withPriority(getPriority())
+                        .forQueue(this)
                         .build();
         return super.enqueue();
     }
@@ -264,6 +289,7 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
                 sideEffectSet = edge ? edgeSideEffectSet : noSideEffectSet;
             }
             getWorld().setBlock(loc, block, sideEffectSet);
+            writtenBlocks.increment();
         } catch (WorldEditException ignored) {
             // Fallback to not so nice method
             BlockData blockData = BukkitAdapter.adapt(block);
@@ -276,6 +302,7 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
             }
             final BlockState existingBaseBlock = BukkitAdapter.adapt(existing.getBlockData());
             if (BukkitBlockUtil.get(existing).equals(existingBaseBlock) && existing.getBlockData().matches(blockData)) {
+                skippedBlocks.increment();
                 return;
             }
 
@@ -291,7 +318,37 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
 
                 sw.restoreTag(existing);
             }
+            writtenBlocks.increment();
+        }
+    }
+
+    /**
+     * Check whether a queued block is already present in the chunk. Blocks with NBT data are always considered changed.
+     */
+    private boolean isUnchanged(@NonNull ChunkSnapshot snapshot, int x, int y, int z, @NonNull BaseBlock block) {
+        if (block.hasNbtData()) {
+            return false;
+        }
+        BlockData blockData = blockDataCache.computeIfAbsent(block.toImmutableState(), BukkitAdapter::adapt);
+        return snapshot.getBlockData(x, y, z).equals(blockData);
+    }
+
+    /**
+     * Check whether a queued section only contains air and the same section of the chunk is empty, so that it may be
+     * skipped as a whole
+     */
+    private static boolean isUnchangedAirSection(
+            @NonNull PaletteSection<BaseBlock> section,
+            @NonNull ChunkSnapshot snapshot,
+            int sectionIndex
+    ) {
+        if (!section.isUniform() || section.isEmpty() || section.get(0).hasNbtData()) {
+            return false;
+        }
+        if (!section.get(0).getBlockType().getMaterial().isAir()) {
+            return false;
         }
+        return snapshot.isSectionEmpty(sectionIndex);
     }
 
     private org.bukkit.World getBukkitWorld() {
@@ -302,64 +359,70 @@ public class BukkitQueueCoordinator extends BasicQueueCoordinator {
     }
 
     private boolean isEdge(int layer, int x, int y, int z, BlockVector2 blockVector2, LocalChunk localChunk) {
+        final PaletteSection<BaseBlock>[] sections = localChunk.getBlockSections();
         int layerIndex = (layer - localChunk.getMinSection());
-        if (layer == localChunk.getMinSection() || layerIndex == localChunk.getBaseblocks().length - 1) {
+        if (layer == localChunk.getMinSection() || layerIndex == sections.length - 1) {
             return false;
         }
         if (x == 0) {
-            LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() - 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(15, y, z)] != null) {
+            if (isNeighbourEdge(getBlockChunks().get(blockVector2.withX(blockVector2.getX() - 1)), layerIndex, 15, y, z)) {
                 return true;
             }
         } else if (x == 15) {
-            LocalChunk localChunkX = getBlockChunks().get(blockVector2.withX(blockVector2.getX() + 1));
-            if (localChunkX == null || localChunkX.getBaseblocks()[layerIndex] == null ||
-                    localChunkX.getBaseblocks()[layerIndex][ChunkUtil.getJ(0, y, z)] != null) {
+            if (isNeighbourEdge(getBlockChunks().get(blockVector2.withX(blockVector2.getX() + 1)), layerIndex, 0, y, z)) {
                 return true;
             }
         }
         if (z == 0) {
-            LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() - 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 15)] != null) {
+            if (isNeighbourEdge(getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() - 1)), layerIndex, x, y, 15)) {
                 return true;
             }
         } else if (z == 15) {
-            LocalChunk localChunkZ = getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() + 1));
-            if (localChunkZ == null || localChunkZ.getBaseblocks()[layerIndex] == null ||
-                    localChunkZ.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, y, 0)] != null) {
+            if (isNeighbourEdge(getBlockChunks().get(blockVector2.withZ(blockVector2.getZ() + 1)), layerIndex, x, y, 0)) {
                 return true;
             }
         }
+        PaletteSection<BaseBlock> baseBlocks = sections[layerIndex];
         if (y == 0) {
-            if (localChunk.getBaseblocks()[layerIndex - 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 15, z)] != null) {
+            if (sections[layerIndex - 1] == null || baseBlocks.get(ChunkUtil.getJ(x, 15, z)) != null) {
                 return true;
             }
         } else if (y == 15) {
-            if (localChunk.getBaseblocks()[layerIndex + 1] == null ||
-                    localChunk.getBaseblocks()[layerIndex][ChunkUtil.getJ(x, 0, z)] != null) {
+            if (sections[layerIndex + 1] == null || baseBlocks.get(ChunkUtil.getJ(x, 0, z)) != null) {
                 return true;
             }
         }
-        BaseBlock[] baseBlocks = localChunk.getBaseblocks()[layerIndex];
-        if (x > 0 && baseBlocks[ChunkUtil.getJ(x - 1, y, z)] == null) {
+        // A uniform section has no unset neighbours
+        if (baseBlocks.isUniform()) {
+            return false;
+        }
+        if (x > 0 && baseBlocks.get(ChunkUtil.getJ(x - 1, y, z)) == null) {
+            return true;
+        }
+        if (x < 15 && baseBlocks.get(ChunkUtil.getJ(x + 1, y, z)) == null) {
             return true;
         }
-        if (x < 15 && baseBlocks[ChunkUtil.getJ(x + 1, y, z)] == null) {
+        if (y > 0 && baseBlocks.get(ChunkUtil.getJ(x, y - 1, z)) == null) {
             return true;
         }
-        if (y > 0 && baseBlocks[ChunkUtil.getJ(x, y - 1, z)] == null) {
+        if (y < 15 && baseBlocks.get(ChunkUtil.getJ(x, y + 1, z)) == null) {
             return true;
         }
-        if (y < 15 && baseBlocks[ChunkUtil.getJ(x, y + 1, z)] == null) {
+        if (z > 0 && baseBlocks.get(ChunkUtil.getJ(x, y, z - 1)) == null) {
             return true;
         }
-        if (z > 0 && baseBlocks[ChunkUtil.getJ(x, y, z - 1)] == null) {
+        return z < 15 && baseBlocks.get(ChunkUtil.getJ(x, y, z + 1)) == null;
+    }
+
+    /**
+     * Check whether a block at the border of a chunk is an edge, given the adjacent position in the neighbouring chunk
+     */
+    private static boolean isNeighbourEdge(LocalChunk neighbour, int layerIndex, int x, int y, int z) {
+        if (neighbour == null) {
             return true;
         }
-        return z < 15 && baseBlocks[ChunkUtil.getJ(x, y, z + 1)] == null;
+        PaletteSection<BaseBlock> section = neighbour.getBlockSections()[layerIndex];
+        return section == null || section.get(ChunkUtil.getJ(x, y, z)) != null;
     }
 
     private boolean isEdgeRegen(int x, int z, BlockVector2 blockVector2) {
@@ -0,0 +1,150 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.bukkit.queue;
+
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.queue.QueuePriority;
+import com.plotsquared.core.util.task.PlotSquaredTask;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import io.papermc.lib.PaperLib;
+import org.bukkit.Bukkit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time per tick shared by all running {@link BukkitChunkCoordinator}s.
+ * <p>
+ * The budget is recalculated every tick from the measured tick time: the queue may use whatever the rest of the
+ * server leaves of {@link Settings.QUEUE#TARGET_TICK_TIME}, between {@link Settings.QUEUE#MIN_ITERATION_TIME} and
+ * {@link Settings.QUEUE#MAX_ITERATION_TIME}. It is split evenly between the coordinators of the highest running
+ * priority, except for {@link Settings.QUEUE#LOWER_PRIORITY_SHARE} percent which is split evenly between the
+ * coordinators of all lower priorities.
+ * </p>
+ * Must only be accessed from the server's main thread.
+ */
+final class ChunkCoordinatorBudget {
+
+    private static final ChunkCoordinatorBudget INSTANCE = new ChunkCoordinatorBudget();
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final int[] running = new int[QueuePriority.values().length];
+    private PlotSquaredTask task;
+    private long budget = TimeUnit.MILLISECONDS.toNanos(Settings.QUEUE.MAX_ITERATION_TIME);
+    private long spent;
+    private double averageSpent;
+    private long lastTick;
+
+    private ChunkCoordinatorBudget() {
+    }
+
+    static @NonNull ChunkCoordinatorBudget get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register a coordinator that has started processing chunks
+     */
+    void register(final @NonNull QueuePriority priority) {
+        this.running[priority.ordinal()]++;
+        if (this.task == null) {
+            this.lastTick = System.nanoTime();
+            this.task = TaskManager.runTaskRepeat(this::tick, TaskTime.ticks(1));
+        }
+    }
+
+    /**
+     * Unregister a coordinator that has finished or been cancelled
+     */
+    void unregister(final @NonNull QueuePriority priority) {
+        this.running[priority.ordinal()]--;
+        for (final int count : this.running) {
+            if (count > 0) {
+                return;
+            }
+        }
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Get the time in nanoseconds a coordinator of the given priority may spend processing chunks during this tick
+     */
+    long getAllowance(final @NonNull QueuePriority priority) {
+        int highest = priority.ordinal();
+        for (int i = this.running.length - 1; i > priority.ordinal(); i--) {
+            if (this.running[i] > 0) {
+                highest = i;
+                break;
+            }
+        }
+        int waiting = 0;
+        for (int i = 0; i < highest; i++) {
+            waiting += this.running[i];
+        }
+        final int sharePercent = Math.min(100, Math.max(0, Settings.QUEUE.LOWER_PRIORITY_SHARE));
+        final long lowerShare = waiting == 0 ? 0 : this.budget * sharePercent / 100;
+        if (priority.ordinal() < highest) {
+            return lowerShare / waiting;
+        }
+        return (this.budget - lowerShare) / Math.max(1, this.running[highest]);
+    }
+
+    /**
+     * Record time in nanoseconds spent processing chunks during this tick
+     */
+    void spend(final long nanos) {
+        this.spent += nanos;
+    }
+
+    private void tick() {
+        final long now = System.nanoTime();
+        final long interval = now - this.lastTick;
+        this.lastTick = now;
+        final double spentMs = this.spent / 1_000_000D;
+        this.spent = 0;
+        this.averageSpent = this.averageSpent * 0.9D + spentMs * 0.1D;
+        // Time the rest of the server needs per tick, without the time the queue spent itself
+        double otherTickTime;
+        if (PaperLib.isPaper()) {
+            otherTickTime = Bukkit.getAverageTickTime() - this.averageSpent;
+        } else if (interval > TICK_NANOS + TimeUnit.MILLISECONDS.toNanos(1)) {
+            // Without Paper we only notice the tick time once ticks are running late
+            otherTickTime = interval / 1_000_000D - spentMs;
+        } else {
+            otherTickTime = 0;
+        }
+        final double available = Math.min(
+                Settings.QUEUE.MAX_ITERATION_TIME,
+                Math.max(Settings.QUEUE.MIN_ITERATION_TIME, Settings.QUEUE.TARGET_TICK_TIME - otherTickTime)
+        );
+        this.budget = (long) (available * 1_000_000D);
+    }
+
+}
@@ -143,7 +143,7 @@ public class GenChunk extends ScopedQueueCoordinator {
                 if (data == null) {
                     result[layer] = data = new BlockState[4096];
                 }
-                int start = y << 8;
+                int start = (y & 15) << 8;
                 int end = start + 256;
                 Arrays.fill(data, start, end, block);
             }
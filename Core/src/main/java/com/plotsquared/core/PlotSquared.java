@@ -70,6 +70,7 @@ import com.plotsquared.core.util.LegacyConverter;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.ReflectionUtils;
 import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
 import com.plotsquared.core.uuid.UUIDPipeline;
 import com.sk89q.worldedit.WorldEdit;
 import com.sk89q.worldedit.math.BlockVector2;
@@ -1210,6 +1211,14 @@ public class PlotSquared {
         }
     }
 
+    private void evictIdleAreas() {
+        for (final PlotArea area : this.getPlotAreaManager().getAllPlotAreas()) {
+            if (area.evictIfIdle()) {
+                LOGGER.info("Unloaded the plots of unused area {}", area);
+            }
+        }
+    }
+
     /**
      * Safely closes the database connection.
      */
@@ -1220,7 +1229,17 @@ public class PlotSquared {
             // Validate that all data in the db is correct
             final HashSet<Plot> plots = new HashSet<>();
             try {
-                forEachPlotRaw(plots::add);
+                for (final PlotArea area : this.getPlotAreaManager().getAllPlotAreas()) {
+                    // Plots of unloaded areas can't have changed, and loading them now would only delay the shutdown
+                    if (area.isLoaded()) {
+                        plots.addAll(area.getPlots());
+                    }
+                }
+                if (this.plots_tmp != null) {
+                    for (final HashMap<PlotId, Plot> entry : this.plots_tmp.values()) {
+                        plots.addAll(entry.values());
+                    }
+                }
             } catch (final Exception ignored) {
             }
             DBFunc.validatePlots(plots);
@@ -1299,7 +1318,15 @@ public class PlotSquared {
                     this.plotListener,
                     this.worldConfiguration
             );
-            this.plots_tmp = DBFunc.getPlots();
+            if (Settings.Database.LAZY_AREA_LOADING) {
+                // Areas load their own plots once they are used
+                this.plots_tmp = new HashMap<>();
+                if (Settings.Database.AREA_EVICTION_TIME > 0) {
+                    TaskManager.runTaskRepeat(this::evictIdleAreas, TaskTime.seconds(60L));
+                }
+            } else {
+                this.plots_tmp = DBFunc.getPlots();
+            }
             if (getPlotAreaManager() instanceof SinglePlotAreaManager) {
                 SinglePlotArea area = ((SinglePlotAreaManager) getPlotAreaManager()).getArea();
                 addPlotArea(area);
@@ -0,0 +1,262 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.collection;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Concurrent map with primitive long keys. Lookups don't allocate and don't block unless they
+ * race with a write to the same segment. Null values are not supported.
+ *
+ * @param <V> value type
+ * @since 6.8.0
+ */
+public final class ConcurrentLongMap<V> {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap() {
+        this.segments = new Segment[1 << SEGMENT_BITS];
+        for (int i = 0; i < this.segments.length; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private @NonNull Segment<V> segment(final long hash) {
+        return this.segments[(int) (hash >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    /**
+     * Get the value mapped to a key
+     *
+     * @param key Key
+     * @return Value, or {@code null} if the key isn't mapped
+     */
+    public @Nullable V get(final long key) {
+        final long hash = mix(key);
+        return segment(hash).get(key, (int) hash);
+    }
+
+    /**
+     * Map a key to a value
+     *
+     * @param key   Key
+     * @param value Value
+     * @return Previous value, or {@code null} if the key wasn't mapped
+     */
+    public @Nullable V put(final long key, final @NonNull V value) {
+        final long hash = mix(key);
+        return segment(hash).put(key, (int) hash, value);
+    }
+
+    /**
+     * Remove the mapping of a key
+     *
+     * @param key Key
+     * @return Removed value, or {@code null} if the key wasn't mapped
+     */
+    public @Nullable V remove(final long key) {
+        final long hash = mix(key);
+        return segment(hash).remove(key, (int) hash);
+    }
+
+    /**
+     * Get the number of mappings. This is only a snapshot while the map is modified.
+     *
+     * @return Number of mappings
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment<V> segment : this.segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Remove all mappings
+     */
+    public void clear() {
+        for (final Segment<V> segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Open addressing table with linear probing. A slot is empty if its value is null.
+     */
+    private static final class Segment<V> {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private volatile int size;
+
+        V get(final long key, final int hash) {
+            long stamp = this.lock.tryOptimisticRead();
+            V value = find(key, hash);
+            if (!this.lock.validate(stamp)) {
+                stamp = this.lock.readLock();
+                try {
+                    value = find(key, hash);
+                } finally {
+                    this.lock.unlockRead(stamp);
+                }
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V find(final long key, final int hash) {
+            final long[] keys = this.keys;
+            final Object[] values = this.values;
+            // During an optimistic read the arrays may belong to different tables. The result is discarded then,
+            // but the lookup must still stay in bounds and terminate
+            final int mask = Math.min(keys.length, values.length) - 1;
+            int index = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return (V) value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        V put(final long key, final int hash, final V value) {
+            final long stamp = this.lock.writeLock();
+            try {
+                final int mask = this.keys.length - 1;
+                int index = hash & mask;
+                while (this.values[index] != null) {
+                    if (this.keys[index] == key) {
+                        final V previous = (V) this.values[index];
+                        this.values[index] = value;
+                        return previous;
+                    }
+                    index = (index + 1) & mask;
+                }
+                this.keys[index] = key;
+                this.values[index] = value;
+                this.size++;
+                if (this.size > this.keys.length / 4 * 3) {
+                    resize();
+                }
+                return null;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        V remove(final long key, final int hash) {
+            final long stamp = this.lock.writeLock();
+            try {
+                final int mask = this.keys.length - 1;
+                int gap = hash & mask;
+                while (this.values[gap] != null && this.keys[gap] != key) {
+                    gap = (gap + 1) & mask;
+                }
+                if (this.values[gap] == null) {
+                    return null;
+                }
+                final V previous = (V) this.values[gap];
+                // Shift the following entries back instead of leaving a tombstone
+                int next = (gap + 1) & mask;
+                while (this.values[next] != null) {
+                    final int ideal = (int) mix(this.keys[next]) & mask;
+                    if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+                        this.keys[gap] = this.keys[next];
+                        this.values[gap] = this.values[next];
+                        gap = next;
+                    }
+                    next = (next + 1) & mask;
+                }
+                this.keys[gap] = 0;
+                this.values[gap] = null;
+                this.size--;
+                return previous;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        void clear() {
+            final long stamp = this.lock.writeLock();
+            try {
+                this.keys = new long[INITIAL_CAPACITY];
+                this.values = new Object[INITIAL_CAPACITY];
+                this.size = 0;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        private void resize() {
+            final long[] oldKeys = this.keys;
+            final Object[] oldValues = this.values;
+            final long[] keys = new long[oldKeys.length << 1];
+            final Object[] values = new Object[oldValues.length << 1];
+            final int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] == null) {
+                    continue;
+                }
+                int index = (int) mix(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+            this.keys = keys;
+            this.values = values;
+        }
+
+    }
+
+}
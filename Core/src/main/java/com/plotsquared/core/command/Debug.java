@@ -29,8 +29,15 @@ import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.caption.StaticCaption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
+import com.plotsquared.core.database.DBFunc;
+import com.plotsquared.core.database.DatabaseStatistics;
+import com.plotsquared.core.database.SQLManager;
 import com.plotsquared.core.player.PlotPlayer;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.queue.GlobalBlockQueue;
+import com.plotsquared.core.queue.QueueJob;
+import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.StringMan;
 import com.plotsquared.core.util.WorldUtil;
 import com.plotsquared.core.util.entity.EntityCategories;
@@ -60,14 +67,17 @@ public class Debug extends SubCommand {
 
     private final PlotAreaManager plotAreaManager;
     private final WorldUtil worldUtil;
+    private final GlobalBlockQueue blockQueue;
 
     @Inject
     public Debug(
             final @NonNull PlotAreaManager plotAreaManager,
-            final @NonNull WorldUtil worldUtil
+            final @NonNull WorldUtil worldUtil,
+            final @NonNull GlobalBlockQueue blockQueue
     ) {
         this.plotAreaManager = plotAreaManager;
         this.worldUtil = worldUtil;
+        this.blockQueue = blockQueue;
     }
 
     @Override
@@ -75,7 +85,10 @@ public class Debug extends SubCommand {
         if (args.length == 0) {
             player.sendMessage(
                     TranslatableCaption.of("commandconfig.command_syntax"),
-                    Template.of("value", "/plot debug <loadedchunks | player | debug-players | entitytypes | msg>")
+                    Template.of(
+                            "value",
+                            "/plot debug <loadedchunks | player | debug-players | entitytypes | database | queue | analysis | msg>"
+                    )
             );
         }
         if (args.length > 0) {
@@ -116,6 +129,58 @@ public class Debug extends SubCommand {
             }
             return true;
         }
+        if (args.length > 0 && "database".equalsIgnoreCase(args[0])) {
+            if (!(DBFunc.dbManager instanceof SQLManager)) {
+                player.sendMessage(StaticCaption.of("<prefix>No SQL database is in use"));
+                return true;
+            }
+            final DatabaseStatistics statistics = ((SQLManager) DBFunc.dbManager).getStatistics();
+            player.sendMessage(StaticCaption.of("<prefix>Queued statements: " + statistics.getQueueDepth()));
+            player.sendMessage(StaticCaption.of("<prefix>Elided statements: " + statistics.getElidedStatements()));
+            player.sendMessage(StaticCaption.of("<prefix>Flush latency (ms): " + statistics.getFlushLatency()));
+            player.sendMessage(StaticCaption.of("<prefix>Batch size: " + statistics.getBatchSize()));
+            return true;
+        }
+        if (args.length > 0 && "queue".equalsIgnoreCase(args[0])) {
+            if (args.length == 3) {
+                final QueueJob job = MathMan.isInteger(args[2]) ? this.blockQueue.getJob(Integer.parseInt(args[2])) : null;
+                if (job == null) {
+                    player.sendMessage(StaticCaption.of("<prefix>No queue job with id " + args[2]));
+                    return true;
+                }
+                switch (args[1].toLowerCase(Locale.ENGLISH)) {
+                    case "pause" -> job.pause();
+                    case "resume" -> job.resume();
+                    case "cancel" -> job.cancel();
+                    default -> {
+                        player.sendMessage(
+                                TranslatableCaption.of("commandconfig.command_syntax"),
+                                Template.of("value", "/plot debug queue [pause | resume | cancel <id>]")
+                        );
+                        return true;
+                    }
+                }
+            }
+            final Collection<QueueJob> jobs = this.blockQueue.getJobs();
+            player.sendMessage(StaticCaption.of("<prefix>Queue jobs: " + jobs.size() + ", loading chunks: "
+                    + this.blockQueue.getLoadingChunks()));
+            for (final QueueJob job : jobs) {
+                final long eta = job.getEstimatedTimeRemaining();
+                player.sendMessage(StaticCaption.of("<prefix>#" + job.getId() + " " + job.getWorld()
+                        + " (" + job.getPriority().name().toLowerCase(Locale.ENGLISH) + (job.isPaused() ? ", paused" : "")
+                        + "): " + job.getRemainingChunks() + "/" + job.getTotalChunks() + " chunks remaining, "
+                        + String.format(Locale.ROOT, "%.1f", job.getThroughput()) + " chunks/s, ETA "
+                        + (eta < 0 ? "unknown" : (eta / 1000) + "s") + ", " + job.getWrittenBlocks()
+                        + " blocks written, " + job.getSkippedBlocks() + " unchanged"));
+            }
+            return true;
+        }
+        if (args.length > 0 && "analysis".equalsIgnoreCase(args[0])) {
+            player.sendMessage(StaticCaption.of("<prefix>Tracked plots: " + PlotAnalysisCache.size()));
+            player.sendMessage(StaticCaption.of("<prefix>Cached analyses used: " + PlotAnalysisCache.getHits()));
+            player.sendMessage(StaticCaption.of("<prefix>Plots analyzed: " + PlotAnalysisCache.getMisses()));
+            return true;
+        }
         if (args.length > 0 && "entitytypes".equalsIgnoreCase(args[0])) {
             EntityCategories.init();
             player.sendMessage(TranslatableCaption.of("debug.entity_categories"));
@@ -173,7 +238,7 @@ public class Debug extends SubCommand {
 
     @Override
     public Collection<Command> tab(final PlotPlayer<?> player, String[] args, boolean space) {
-        return Stream.of("loadedchunks", "debug-players", "entitytypes")
+        return Stream.of("loadedchunks", "debug-players", "entitytypes", "database", "queue", "analysis")
                 .filter(value -> value.startsWith(args[0].toLowerCase(Locale.ENGLISH)))
                 .map(value -> new Command(null, false, value, "plots.admin", RequiredType.NONE, null) {
                 }).collect(Collectors.toList());
@@ -35,6 +35,7 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.expiration.ExpireManager;
+import com.plotsquared.core.plot.expiration.ExpirySweep;
 import com.plotsquared.core.plot.expiration.PlotAnalysis;
 import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
@@ -52,6 +53,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -86,6 +88,7 @@ public class DebugExec extends SubCommand {
                         "calibrate-analysis",
                         "start-expire",
                         "stop-expire",
+                        "expire-status",
                         "remove-flag",
                         "start-rgar",
                         "stop-rgar"
@@ -164,6 +167,23 @@ public class DebugExec extends SubCommand {
                     }
                     return true;
                 }
+                case "expire-status" -> {
+                    final ExpirySweep sweep = ExpireManager.IMP == null ? null : ExpireManager.IMP.getSweep();
+                    if (sweep == null) {
+                        player.sendMessage(TranslatableCaption.of("debugexec.task_not_running"));
+                        return true;
+                    }
+                    final long eta = sweep.getEstimatedTimeRemaining();
+                    player.sendMessage(
+                            TranslatableCaption.of("debugexec.expiry_progress"),
+                            Template.of("processed", String.valueOf(sweep.getProcessed())),
+                            Template.of("total", sweep.getTotal() < 0 ? "?" : String.valueOf(sweep.getTotal())),
+                            Template.of("expired", String.valueOf(sweep.getExpired())),
+                            Template.of("in_flight", String.valueOf(sweep.getInFlight())),
+                            Template.of("eta", eta < 0 ? "?" : String.valueOf(TimeUnit.MILLISECONDS.toMinutes(eta)))
+                    );
+                    return true;
+                }
                 case "remove-flag" -> {
                     if (args.length != 2) {
                         player.sendMessage(
@@ -236,7 +256,16 @@ public class DebugExec extends SubCommand {
 
     @Override
     public Collection<Command> tab(final PlotPlayer<?> player, String[] args, boolean space) {
-        return Stream.of("analyze", "calibrate-analysis", "start-expire", "stop-expire", "remove-flag", "start-rgar", "stop-rgar")
+        return Stream.of(
+                        "analyze",
+                        "calibrate-analysis",
+                        "start-expire",
+                        "stop-expire",
+                        "expire-status",
+                        "remove-flag",
+                        "start-rgar",
+                        "stop-rgar"
+                )
                 .filter(value -> value.startsWith(args[0].toLowerCase(Locale.ENGLISH)))
                 .map(value -> new Command(null, false, value, "plots.admin", RequiredType.NONE, null) {
                 }).collect(Collectors.toList());
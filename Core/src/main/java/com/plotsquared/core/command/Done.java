@@ -110,7 +110,7 @@ public class Done extends SubCommand {
                 public void run(PlotAnalysis value) {
                     plot.removeRunning();
                     boolean result =
-                            value.getComplexity(doneRequirements) <= doneRequirements.THRESHOLD;
+                            value != null && value.getComplexity(doneRequirements) <= doneRequirements.THRESHOLD;
                     finish(plot, player, result);
                 }
             });
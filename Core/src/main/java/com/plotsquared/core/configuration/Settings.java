@@ -675,9 +675,20 @@ public class Settings extends Config {
         @Comment({"Average time per tick spent completing chunk tasks in ms.",
                 "Queue will adjust the batch size to match this."})
         public static int MAX_ITERATION_TIME = 30;
+        @Comment({"Time per tick in ms the queue will always spend completing chunk tasks,",
+                "even when the server is overloaded, so that running tasks still progress."})
+        public static int MIN_ITERATION_TIME = 2;
+        @Comment({"Tick time in ms the queue tries to keep the server under. The queue uses the time the",
+                "rest of the server leaves of this, between the min and max iteration time."})
+        public static int TARGET_TICK_TIME = 45;
+        @Comment({"Percentage of the queue's time per tick shared by tasks waiting for tasks of a higher priority,",
+                "so that they still progress while e.g. a large clear is running."})
+        public static int LOWER_PRIORITY_SHARE = 10;
         @Comment({"Initial number of chunks to process by the queue. This can be increased or",
                 "decreased by the queue based on the actual iteration time compared to above."})
         public static int INITIAL_BATCH_SIZE = 5;
+        @Comment("Maximum number of chunks all running queues may be loading at the same time.")
+        public static int MAX_LOADING_CHUNKS = 64;
         @Comment("Notify progress of the queue to the player or console.")
         public static boolean NOTIFY_PROGRESS = true;
         @Comment("Interval in ms to notify player or console of progress.")
@@ -694,6 +705,44 @@ public class Settings extends Config {
         @Comment({"If blocks at the edges of queued operations should be set causing updates",
                 " - Slightly slower, but prevents issues such as fences left connected to nothing"})
         public static boolean UPDATE_EDGES = true;
+        @Comment({"If the queue should compare queued blocks against the chunk before writing them",
+                " - Skips blocks that are already present, e.g. most of the ground when clearing a plot"})
+        public static boolean SKIP_UNCHANGED_BLOCKS = true;
+
+    }
+
+    @Comment("Settings relating to how PlotSquared writes to the database")
+    public static final class Database {
+
+        @Comment({"Number of connections used to write plot, player and cluster changes in parallel.",
+                "Changes to the same plot, player or cluster are always written in order by the same connection.",
+                " - Only used with MySQL, SQLite always uses a single connection"})
+        public static int WRITER_POOL_SIZE = 4;
+        @Comment("Maximum number of statements a single connection commits in one transaction")
+        public static int BATCH_SIZE = 500;
+        @Comment({"Time in ms to wait for further changes once a change is queued, so bursts of changes are",
+                "committed in a single transaction. 0 writes every change immediately."})
+        public static int LINGER_TIME = 5;
+        @Comment({"Only load the plots of an area once it is first used, e.g. by a player entering it or a plot query.",
+                " - Commands and tasks that look at every plot, such as plot expiry, still load all areas"})
+        public static boolean LAZY_AREA_LOADING = false;
+        @Comment({"Time in minutes after which the plots of an unused area are unloaded again, if lazy-area-loading is enabled.",
+                "0 keeps areas loaded once they have been used"})
+        public static int AREA_EVICTION_TIME = 30;
+
+    }
+
+    @Comment("Settings relating to how expired plots are found and deleted")
+    public static final class Expiry {
+
+        @Comment({"Maximum number of plots the expiry task analyzes or deletes at the same time.",
+                "Higher values finish sooner, but cause more load while the task runs."})
+        public static int MAX_IN_FLIGHT = 8;
+        @Comment({"Maximum number of expired plots to delete per minute.",
+                "Set to 0 to only be limited by max-in-flight."})
+        public static int PLOTS_PER_MINUTE = 60;
+        @Comment("Interval in seconds to log the progress of the expiry task, or 0 to disable.")
+        public static int PROGRESS_INTERVAL = 300;
 
     }
 
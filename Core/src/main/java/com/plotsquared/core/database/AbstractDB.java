@@ -146,6 +146,24 @@ public interface AbstractDB {
      */
     HashMap<String, HashMap<PlotId, Plot>> getPlots();
 
+    /**
+     * Load the plots of a single area.
+     *
+     * @param area the area to load the plots of
+     * @return the plots of the area, by id
+     * @since 6.8.0
+     */
+    HashMap<PlotId, Plot> getPlots(PlotArea area);
+
+    /**
+     * Check whether changes to plots of an area are still waiting to be written.
+     *
+     * @param area the area to check
+     * @return {@code true} if there are changes that have not been written yet
+     * @since 6.8.0
+     */
+    boolean hasPendingChanges(PlotArea area);
+
     /**
      * @param toValidate
      */
@@ -327,6 +327,27 @@ public class DBFunc {
         return DBFunc.dbManager.getPlots();
     }
 
+    /**
+     * @param area the area to load the plots of
+     * @return Plots of the area
+     * @since 6.8.0
+     */
+    public static HashMap<PlotId, Plot> getPlots(PlotArea area) {
+        if (dbManager == null) {
+            return new HashMap<>();
+        }
+        return DBFunc.dbManager.getPlots(area);
+    }
+
+    /**
+     * @param area the area to check
+     * @return if changes to plots of the area still have to be written
+     * @since 6.8.0
+     */
+    public static boolean hasPendingChanges(PlotArea area) {
+        return dbManager != null && dbManager.hasPendingChanges(area);
+    }
+
     public static void setMerged(Plot plot, boolean[] merged) {
         if (plot.temp == -1 || dbManager == null) {
             return;
@@ -40,6 +40,16 @@ public abstract class Database {
 
     public abstract Connection forceConnection() throws SQLException, ClassNotFoundException;
 
+    /**
+     * Opens a new connection with the database that is not tracked by this instance.
+     * The caller is responsible for closing the returned connection.
+     *
+     * @return Newly opened connection
+     * @throws SQLException           if the connection can not be opened
+     * @throws ClassNotFoundException if the driver cannot be found
+     */
+    public abstract Connection createConnection() throws SQLException, ClassNotFoundException;
+
     /**
      * Opens a connection with the database.
      *
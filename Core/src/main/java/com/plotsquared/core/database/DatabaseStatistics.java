@@ -0,0 +1,98 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.database;
+
+import com.plotsquared.core.util.Histogram;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the statements queued and written by a {@link SQLManager}.
+ *
+ * @since 6.8.0
+ */
+public final class DatabaseStatistics {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong elided = new AtomicLong();
+    private final Histogram flushLatency = new Histogram();
+    private final Histogram batchSize = new Histogram();
+
+    void statementQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    void statementsRemoved(int amount) {
+        this.queued.addAndGet(-amount);
+    }
+
+    void statementsElided(int amount) {
+        this.elided.addAndGet(amount);
+    }
+
+    void batchFlushed(int size, long oldestQueuedAt) {
+        this.batchSize.record(size);
+        this.flushLatency.record(System.currentTimeMillis() - oldestQueuedAt);
+    }
+
+    /**
+     * Get the amount of statements and tasks that are currently waiting to be written.
+     *
+     * @return amount of queued statements
+     */
+    public int getQueueDepth() {
+        return Math.max(0, this.queued.get());
+    }
+
+    /**
+     * Get the amount of statements that were never written, because a later statement replaced or cancelled them.
+     *
+     * @return amount of elided statements
+     */
+    public long getElidedStatements() {
+        return this.elided.get();
+    }
+
+    /**
+     * Get the time in milliseconds between the oldest statement of a batch being queued and the batch being committed.
+     *
+     * @return flush latency histogram
+     */
+    public Histogram getFlushLatency() {
+        return this.flushLatency;
+    }
+
+    /**
+     * Get the amount of statements committed per transaction.
+     *
+     * @return batch size histogram
+     */
+    public Histogram getBatchSize() {
+        return this.batchSize;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.database;
+
+import com.plotsquared.core.plot.PlotId;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe index of the database row ids of plots, by area and plot id.
+ */
+final class PlotRowIndex {
+
+    private final Map<String, Map<PlotId, Integer>> rows = new ConcurrentHashMap<>();
+
+    /**
+     * Get the row id of a plot.
+     *
+     * @param area area of the plot, as stored in the database
+     * @param id   plot id
+     * @return row id, {@code 0} if the plot is not indexed
+     */
+    int get(String area, PlotId id) {
+        Map<PlotId, Integer> ids = this.rows.get(area);
+        if (ids == null) {
+            return 0;
+        }
+        Integer row = ids.get(id);
+        return row == null ? 0 : row;
+    }
+
+    void put(String area, PlotId id, int row) {
+        if (row > 0) {
+            this.rows.computeIfAbsent(area, key -> new ConcurrentHashMap<>()).put(id, row);
+        }
+    }
+
+    /**
+     * Remove a plot from the index, if it still has the given row id.
+     */
+    void remove(String area, PlotId id, int row) {
+        Map<PlotId, Integer> ids = this.rows.get(area);
+        if (ids != null) {
+            ids.remove(id, row);
+        }
+    }
+
+    /**
+     * Remove all plots with any of the given row ids.
+     */
+    void removeRows(Collection<Integer> rows) {
+        for (Map<PlotId, Integer> ids : this.rows.values()) {
+            ids.values().removeAll(rows);
+        }
+    }
+
+    void clear() {
+        this.rows.clear();
+    }
+
+}
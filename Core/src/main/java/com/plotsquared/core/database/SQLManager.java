@@ -54,6 +54,7 @@ import com.plotsquared.core.util.task.TaskManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -66,6 +67,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -79,7 +81,12 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 
 @SuppressWarnings("SqlDialectInspection")
@@ -136,8 +143,13 @@ public class SQLManager implements AbstractDB {
      */
     public volatile ConcurrentHashMap<PlotCluster, Queue<UniqueStatement>> clusterTasks;
     // Private
+    private final SQLWriter[] writers;
+    private final DatabaseStatistics statistics = new DatabaseStatistics();
+    private final PlotRowIndex rowIndex = new PlotRowIndex();
+    // Guarded by this
+    private final StatementCoalescer<Object> coalescer = new StatementCoalescer<>(this.statistics);
     private Connection connection;
-    private boolean closed = false;
+    private volatile boolean closed = false;
 
     /**
      * Constructor
@@ -167,6 +179,13 @@ public class SQLManager implements AbstractDB {
         this.plotTasks = new ConcurrentHashMap<>();
         this.playerTasks = new ConcurrentHashMap<>();
         this.clusterTasks = new ConcurrentHashMap<>();
+        // SQLite only allows a single writer at a time, so additional connections would only wait on each other
+        int writerCount = this.mySQL ? Math.max(1, Settings.Database.WRITER_POOL_SIZE) : 1;
+        this.writers = new SQLWriter[writerCount];
+        this.writers[0] = new SQLWriter(0, null);
+        for (int i = 1; i < writerCount; i++) {
+            this.writers[i] = new SQLWriter(i, database.createConnection());
+        }
         this.prefix = prefix;
         this.SET_OWNER = "UPDATE `" + this.prefix
                 + "plot` SET `owner` = ? WHERE `plot_id_x` = ? AND `plot_id_z` = ? AND `world` = ?";
@@ -197,43 +216,12 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             e.printStackTrace();
         }
-        TaskManager.runTaskAsync(() -> {
-            long last = System.currentTimeMillis();
-            while (!SQLManager.this.closed) {
-                boolean hasTask =
-                        !globalTasks.isEmpty() || !playerTasks.isEmpty() || !plotTasks.isEmpty()
-                                || !clusterTasks.isEmpty();
-                if (hasTask) {
-                    if (SQLManager.this.mySQL && System.currentTimeMillis() - last > 550000
-                            || !isValid()) {
-                        last = System.currentTimeMillis();
-                        reconnect();
-                    }
-                    if (!sendBatch()) {
-                        try {
-                            if (!getNotifyTasks().isEmpty()) {
-                                for (Runnable task : getNotifyTasks()) {
-                                    TaskManager.runTask(task);
-                                }
-                                getNotifyTasks().clear();
-                            }
-                            Thread.sleep(50);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                } else {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
-        });
+        for (SQLWriter writer : this.writers) {
+            TaskManager.runTaskAsync(writer);
+        }
     }
 
-    public boolean isValid() {
+    private static boolean isValid(Connection connection) {
         try {
             if (connection.isClosed()) {
                 return false;
@@ -241,7 +229,7 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             return false;
         }
-        try (PreparedStatement stmt = this.connection.prepareStatement("SELECT 1")) {
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT 1")) {
             stmt.execute();
             return true;
         } catch (Throwable e) {
@@ -249,10 +237,26 @@ public class SQLManager implements AbstractDB {
         }
     }
 
+    private static void logBatchError(Throwable e) {
+        LOGGER.error("============ DATABASE ERROR ============");
+        LOGGER.error("There was an error updating the database.");
+        LOGGER.error(" - It will be corrected on shutdown");
+        LOGGER.error("========================================");
+        e.printStackTrace();
+        LOGGER.error("========================================");
+    }
+
+    public boolean isValid() {
+        return isValid(this.connection);
+    }
+
     public void reconnect() {
         try {
-            close();
-            SQLManager.this.closed = false;
+            this.connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        try {
             SQLManager.this.connection = database.forceConnection();
         } catch (SQLException | ClassNotFoundException e) {
             e.printStackTrace();
@@ -277,7 +281,7 @@ public class SQLManager implements AbstractDB {
             task = new UniqueStatement(String.valueOf(plot.hashCode())) {
 
                 @Override
-                public PreparedStatement get() {
+                public PreparedStatement get(Connection connection) {
                     return null;
                 }
 
@@ -295,7 +299,11 @@ public class SQLManager implements AbstractDB {
 
             };
         }
-        tasks.add(task);
+        if (this.coalescer.coalesce(plot, tasks, task)) {
+            removeIfEmpty(this.plotTasks, plot, tasks);
+        } else {
+            enqueue(plot, tasks, task);
+        }
     }
 
     public synchronized void addPlayerTask(UUID uuid, UniqueStatement task) {
@@ -311,7 +319,7 @@ public class SQLManager implements AbstractDB {
             task = new UniqueStatement(String.valueOf(uuid.hashCode())) {
 
                 @Override
-                public PreparedStatement get() {
+                public PreparedStatement get(Connection connection) {
                     return null;
                 }
 
@@ -329,7 +337,7 @@ public class SQLManager implements AbstractDB {
 
             };
         }
-        tasks.add(task);
+        enqueue(uuid, tasks, task);
     }
 
     public synchronized void addClusterTask(PlotCluster cluster, UniqueStatement task) {
@@ -342,7 +350,7 @@ public class SQLManager implements AbstractDB {
             task = new UniqueStatement(String.valueOf(cluster.hashCode())) {
 
                 @Override
-                public PreparedStatement get() {
+                public PreparedStatement get(Connection connection) {
                     return null;
                 }
 
@@ -360,212 +368,136 @@ public class SQLManager implements AbstractDB {
 
             };
         }
+        enqueue(cluster, tasks, task);
+    }
+
+    private void enqueue(Object key, Queue<UniqueStatement> tasks, UniqueStatement task) {
+        if (task.queuedAt == 0) {
+            task.queuedAt = System.currentTimeMillis();
+        }
         tasks.add(task);
+        this.statistics.statementQueued();
+        getWriter(key).signal();
     }
 
     public synchronized void addGlobalTask(Runnable task) {
         getGlobalTasks().add(task);
+        this.statistics.statementQueued();
+        this.writers[0].signal();
     }
 
     public synchronized void addNotifyTask(Runnable task) {
         if (task != null) {
             getNotifyTasks().add(task);
+            this.writers[0].signal();
         }
     }
 
-    public boolean sendBatch() {
-        try {
-            if (!getGlobalTasks().isEmpty()) {
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                Runnable task = getGlobalTasks().remove();
-                if (task != null) {
-                    try {
-                        task.run();
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
-                    }
-                }
-                commit();
+    @Override
+    public synchronized boolean hasPendingChanges(PlotArea area) {
+        for (Entry<Plot, Queue<UniqueStatement>> entry : this.plotTasks.entrySet()) {
+            if (entry.getKey().getArea() == area && !entry.getValue().isEmpty()) {
                 return true;
             }
-            int count = -1;
-            if (!this.plotTasks.isEmpty()) {
-                count = Math.max(count, 0);
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                String method = null;
-                PreparedStatement statement = null;
-                UniqueStatement task = null;
-                UniqueStatement lastTask = null;
-                Iterator<Entry<Plot, Queue<UniqueStatement>>> iterator =
-                        this.plotTasks.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    try {
-                        Entry<Plot, Queue<UniqueStatement>> entry = iterator.next();
-                        Queue<UniqueStatement> tasks = entry.getValue();
-                        if (tasks.isEmpty()) {
-                            iterator.remove();
-                            continue;
-                        }
-                        task = tasks.remove();
-                        count++;
-                        if (task != null) {
-                            if (task.method == null || !task.method.equals(method)
-                                    || statement == null) {
-                                if (statement != null) {
-                                    lastTask.execute(statement);
-                                    statement.close();
-                                }
-                                method = task.method;
-                                statement = task.get();
-                            }
-                            task.set(statement);
-                            task.addBatch(statement);
-                            try {
-                                if (statement.isClosed()) {
-                                    statement = null;
-                                }
-                            } catch (NullPointerException | AbstractMethodError ignore) {
-                            }
-                        }
-                        lastTask = task;
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        LOGGER.error("========================================");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
-                    }
-                }
-                if (statement != null && task != null) {
-                    task.execute(statement);
-                    statement.close();
-                }
-            }
-            if (!this.playerTasks.isEmpty()) {
-                count = Math.max(count, 0);
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                String method = null;
-                PreparedStatement statement = null;
-                UniqueStatement task = null;
-                UniqueStatement lastTask = null;
-                for (Entry<UUID, Queue<UniqueStatement>> entry : this.playerTasks.entrySet()) {
-                    try {
-                        UUID uuid = entry.getKey();
-                        if (this.playerTasks.get(uuid).isEmpty()) {
-                            this.playerTasks.remove(uuid);
-                            continue;
-                        }
-                        task = this.playerTasks.get(uuid).remove();
-                        count++;
-                        if (task != null) {
-                            if (task.method == null || !task.method.equals(method)) {
-                                if (statement != null) {
-                                    lastTask.execute(statement);
-                                    statement.close();
-                                }
-                                method = task.method;
-                                statement = task.get();
-                            }
-                            task.set(statement);
-                            task.addBatch(statement);
-                        }
-                        lastTask = task;
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        LOGGER.error("========================================");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
-                    }
-                }
-                if (statement != null && task != null) {
-                    task.execute(statement);
-                    statement.close();
-                }
-            }
-            if (!this.clusterTasks.isEmpty()) {
-                count = Math.max(count, 0);
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                String method = null;
-                PreparedStatement statement = null;
-                UniqueStatement task = null;
-                UniqueStatement lastTask = null;
-                for (Entry<PlotCluster, Queue<UniqueStatement>> entry : this.clusterTasks
-                        .entrySet()) {
-                    try {
-                        PlotCluster cluster = entry.getKey();
-                        if (this.clusterTasks.get(cluster).isEmpty()) {
-                            this.clusterTasks.remove(cluster);
-                            continue;
-                        }
-                        task = this.clusterTasks.get(cluster).remove();
-                        count++;
-                        if (task != null) {
-                            if (task.method == null || !task.method.equals(method)) {
-                                if (statement != null) {
-                                    lastTask.execute(statement);
-                                    statement.close();
-                                }
-                                method = task.method;
-                                statement = task.get();
-                            }
-                            task.set(statement);
-                            task.addBatch(statement);
-                        }
-                        lastTask = task;
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        LOGGER.error("========================================");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
-                    }
-                }
-                if (statement != null && task != null) {
-                    task.execute(statement);
-                    statement.close();
-                }
+        }
+        return false;
+    }
+
+    /**
+     * Get statistics about the statements queued and written by this manager.
+     *
+     * @return database statistics
+     * @since 6.8.0
+     */
+    public DatabaseStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Send a single batch of queued statements for every writer on the calling thread.
+     *
+     * @return {@code true} if any statements were sent
+     */
+    public boolean sendBatch() {
+        boolean sent = false;
+        for (SQLWriter writer : this.writers) {
+            sent |= writer.sendBatch();
+        }
+        return sent;
+    }
+
+    /**
+     * Get the writer responsible for the statements of a plot, player or cluster.
+     * All statements for the same key are handled by the same writer, so they are written in order.
+     */
+    private SQLWriter getWriter(Object key) {
+        return this.writers[Math.floorMod(key.hashCode(), this.writers.length)];
+    }
+
+    /**
+     * Get the connection of the writer running on the calling thread, or the main connection if the calling thread is
+     * not a writer.
+     */
+    private Connection getCurrentConnection() {
+        Thread current = Thread.currentThread();
+        for (SQLWriter writer : this.writers) {
+            if (writer.thread == current) {
+                return writer.getConnection();
             }
-            if (count > 0) {
-                commit();
-                return true;
+        }
+        return this.connection;
+    }
+
+    /**
+     * Wait until every writer has written all of its queued statements. If the writers are not running,
+     * the statements are written on the calling thread instead.
+     */
+    private void flush() {
+        while (!isIdle()) {
+            boolean running = false;
+            for (SQLWriter writer : this.writers) {
+                running |= writer.thread != null;
+                writer.signal();
             }
-            if (count != -1) {
-                if (!this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(true);
+            if (!running) {
+                while (sendBatch()) {
+                    // Write until nothing is left
                 }
+                return;
             }
-            if (!this.clusterTasks.isEmpty()) {
-                this.clusterTasks.clear();
-            }
-            if (!this.plotTasks.isEmpty()) {
-                this.plotTasks.clear();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private boolean isIdle() {
+        for (SQLWriter writer : this.writers) {
+            if (writer.busy || writer.hasTask()) {
+                return false;
             }
-        } catch (Throwable e) {
-            LOGGER.error("============ DATABASE ERROR ============");
-            LOGGER.error("There was an error updating the database.");
-            LOGGER.error(" - It will be corrected on shutdown");
-            LOGGER.error("========================================");
-            e.printStackTrace();
-            LOGGER.error("========================================");
         }
-        return false;
+        return true;
+    }
+
+    /**
+     * Run the notify tasks once every writer has written all of its queued statements.
+     */
+    private void runNotifyTasks() {
+        if (getNotifyTasks().isEmpty() || !isIdle()) {
+            return;
+        }
+        Runnable task;
+        while ((task = getNotifyTasks().poll()) != null) {
+            TaskManager.runTask(task);
+        }
+    }
+
+    private synchronized <K> void removeIfEmpty(
+            Map<K, Queue<UniqueStatement>> tasks, K key,
+            Queue<UniqueStatement> queue
+    ) {
+        if (queue.isEmpty() && tasks.remove(key, queue)) {
+            this.coalescer.remove(key);
+        }
     }
 
     public Connection getConnection() {
@@ -590,8 +522,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(SQLManager.this.SET_OWNER);
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(SQLManager.this.SET_OWNER);
             }
         });
     }
@@ -1066,8 +998,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         SQLManager.this.CREATE_PLOT_SAFE,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -1085,6 +1017,7 @@ public class SQLManager implements AbstractDB {
                     try (ResultSet keys = statement.getGeneratedKeys()) {
                         if (keys.next()) {
                             plot.temp = keys.getInt(1);
+                            SQLManager.this.rowIndex.put(plot.getArea().toString(), plot.getId(), plot.temp);
                             addPlotTask(plot, new UniqueStatement(
                                     "createPlotAndSettings_settings_" + plot.hashCode()) {
                                 @Override
@@ -1094,8 +1027,8 @@ public class SQLManager implements AbstractDB {
                                 }
 
                                 @Override
-                                public PreparedStatement get() throws SQLException {
-                                    return SQLManager.this.connection.prepareStatement(
+                                public PreparedStatement get(Connection connection) throws SQLException {
+                                    return connection.prepareStatement(
                                             "INSERT INTO `" + SQLManager.this.prefix
                                                     + "plot_settings`(`plot_plot_id`) VALUES(?)");
                                 }
@@ -1115,13 +1048,17 @@ public class SQLManager implements AbstractDB {
     }
 
     public void commit() {
+        commit(this.connection);
+    }
+
+    private void commit(Connection connection) {
         if (this.closed) {
             return;
         }
         try {
-            if (!this.connection.getAutoCommit()) {
-                this.connection.commit();
-                this.connection.setAutoCommit(true);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+                connection.setAutoCommit(true);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -1141,9 +1078,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection
-                        .prepareStatement(SQLManager.this.CREATE_PLOT, Statement.RETURN_GENERATED_KEYS);
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(SQLManager.this.CREATE_PLOT, Statement.RETURN_GENERATED_KEYS);
             }
 
             @Override
@@ -1156,6 +1092,7 @@ public class SQLManager implements AbstractDB {
                 try (ResultSet keys = statement.getGeneratedKeys()) {
                     if (keys.next()) {
                         plot.temp = keys.getInt(1);
+                        SQLManager.this.rowIndex.put(plot.getArea().toString(), plot.getId(), plot.temp);
                     }
                 }
             }
@@ -1167,8 +1104,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
@@ -1345,8 +1282,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_settings` WHERE `plot_plot_id` = ?");
             }
@@ -1365,8 +1302,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ?");
             }
@@ -1385,8 +1322,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ?");
             }
@@ -1405,8 +1342,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ?");
             }
@@ -1423,8 +1360,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `world` = ? AND `hashcode` = ?");
             }
@@ -1443,8 +1380,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_rating` WHERE `plot_plot_id` = ?");
             }
@@ -1467,12 +1404,14 @@ public class SQLManager implements AbstractDB {
         addPlotTask(plot, new UniqueStatement("delete_plot") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, getId(plot));
+                int id = getId(plot);
+                statement.setInt(1, id);
+                SQLManager.this.rowIndex.remove(plot.getArea().toString(), plot.getId(), id);
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot` WHERE `id` = ?");
             }
         });
@@ -1493,8 +1432,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
@@ -1507,12 +1446,14 @@ public class SQLManager implements AbstractDB {
             return cluster.temp;
         }
         try {
-            commit();
+            // Look the id up on the connection of the writer asking for it, which may not have committed the insert yet
+            Connection connection = getCurrentConnection();
+            commit(connection);
             if (cluster.temp > 0) {
                 return cluster.temp;
             }
             int c_id;
-            try (PreparedStatement stmt = this.connection.prepareStatement(
+            try (PreparedStatement stmt = connection.prepareStatement(
                     "SELECT `id` FROM `" + this.prefix
                             + "cluster` WHERE `pos1_x` = ? AND `pos1_z` = ? AND `pos2_x` = ? AND `pos2_z` = ? AND `world` = ? ORDER BY `timestamp` ASC")) {
                 stmt.setInt(1, cluster.getP1().getX());
@@ -1546,13 +1487,20 @@ public class SQLManager implements AbstractDB {
         if (plot.temp > 0) {
             return plot.temp;
         }
+        int indexed = this.rowIndex.get(plot.getArea().toString(), plot.getId());
+        if (indexed > 0) {
+            plot.temp = indexed;
+            return indexed;
+        }
+        // Only plots that were inserted without returning their key, such as by createPlots, end up here
         try {
-            commit();
+            Connection connection = getCurrentConnection();
+            commit(connection);
             if (plot.temp > 0) {
                 return plot.temp;
             }
             int id;
-            try (PreparedStatement statement = this.connection.prepareStatement(
+            try (PreparedStatement statement = connection.prepareStatement(
                     "SELECT `id` FROM `" + this.prefix
                             + "plot` WHERE `plot_id_x` = ? AND `plot_id_z` = ? AND world = ? ORDER BY `timestamp` ASC")) {
                 statement.setInt(1, plot.getId().getX());
@@ -1572,6 +1520,7 @@ public class SQLManager implements AbstractDB {
                 throw new SQLException("Plot does not exist in database");
             }
             plot.temp = id;
+            this.rowIndex.put(plot.getArea().toString(), plot.getId(), id);
             return id;
         } catch (SQLException e) {
             e.printStackTrace();
@@ -1800,359 +1749,391 @@ public class SQLManager implements AbstractDB {
      */
     @Override
     public HashMap<String, HashMap<PlotId, Plot>> getPlots() {
+        return loadPlots(null);
+    }
+
+    @Override
+    public HashMap<PlotId, Plot> getPlots(PlotArea area) {
+        HashMap<PlotId, Plot> plots = loadPlots(area.toString()).get(area.toString());
+        return plots == null ? new HashMap<>() : plots;
+    }
+
+    /**
+     * Load plots and their data from the database.
+     *
+     * @param world area to load the plots of, or {@code null} to load all plots
+     * @return plots by area and id
+     */
+    private HashMap<String, HashMap<PlotId, Plot>> loadPlots(@Nullable String world) {
         HashMap<String, HashMap<PlotId, Plot>> newPlots = new HashMap<>();
         HashMap<Integer, Plot> plots = new HashMap<>();
-        try {
-            HashSet<String> areas = new HashSet<>();
-            if (this.worldConfiguration.contains("worlds")) {
-                ConfigurationSection worldSection = this.worldConfiguration.getConfigurationSection("worlds");
-                if (worldSection != null) {
-                    for (String worldKey : worldSection.getKeys(false)) {
-                        areas.add(worldKey);
-                        ConfigurationSection areaSection =
-                                worldSection.getConfigurationSection(worldKey + ".areas");
-                        if (areaSection != null) {
-                            for (String areaKey : areaSection.getKeys(false)) {
-                                String[] split = areaKey.split("(?<![;])-");
-                                if (split.length == 3) {
-                                    areas.add(worldKey + ';' + split[0]);
-                                }
+        if (world == null) {
+            this.rowIndex.clear();
+        }
+        HashSet<String> areas = new HashSet<>();
+        if (this.worldConfiguration.contains("worlds")) {
+            ConfigurationSection worldSection = this.worldConfiguration.getConfigurationSection("worlds");
+            if (worldSection != null) {
+                for (String worldKey : worldSection.getKeys(false)) {
+                    areas.add(worldKey);
+                    ConfigurationSection areaSection =
+                            worldSection.getConfigurationSection(worldKey + ".areas");
+                    if (areaSection != null) {
+                        for (String areaKey : areaSection.getKeys(false)) {
+                            String[] split = areaKey.split("(?<![;])-");
+                            if (split.length == 3) {
+                                areas.add(worldKey + ';' + split[0]);
                             }
                         }
                     }
                 }
             }
+        }
+        HashMap<String, AtomicInteger> noExist = new HashMap<>();
+        Queue<Runnable> cleanup = new ConcurrentLinkedQueue<>();
+
+        /*
+         * Getting plots
+         */
+        ArrayList<Integer> deletedPlots = new ArrayList<>();
+        cleanup.add(() -> deleteRows(deletedPlots, this.prefix + "plot", "id"));
+        boolean loaded = loadTable("plot", connection -> {
+            int rows = 0;
             HashMap<String, UUID> uuids = new HashMap<>();
-            HashMap<String, AtomicInteger> noExist = new HashMap<>();
-
-            /*
-             * Getting plots
-             */
-            try (Statement statement = this.connection.createStatement()) {
-                int id;
-                String o;
-                UUID user;
-                try (ResultSet resultSet = statement.executeQuery(
-                        "SELECT `id`, `plot_id_x`, `plot_id_z`, `owner`, `world`, `timestamp` FROM `"
-                                + this.prefix + "plot`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (resultSet.next()) {
-                        PlotId plot_id = PlotId.of(
-                                resultSet.getInt("plot_id_x"),
-                                resultSet.getInt("plot_id_z")
-                        );
-                        id = resultSet.getInt("id");
-                        String areaID = resultSet.getString("world");
-                        if (!areas.contains(areaID)) {
-                            if (Settings.Enabled_Components.DATABASE_PURGER) {
-                                toDelete.add(id);
-                                continue;
+            String query = "SELECT `id`, `plot_id_x`, `plot_id_z`, `owner`, `world`, `timestamp` FROM `"
+                    + this.prefix + "plot`" + (world == null ? "" : " WHERE `world` = ?");
+            try (PreparedStatement statement = prepareLoadStatement(connection, query, world);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                    PlotId plot_id = PlotId.of(
+                            resultSet.getInt("plot_id_x"),
+                            resultSet.getInt("plot_id_z")
+                    );
+                    int id = resultSet.getInt("id");
+                    String areaID = resultSet.getString("world");
+                    if (world == null && !areas.contains(areaID)) {
+                        if (Settings.Enabled_Components.DATABASE_PURGER) {
+                            deletedPlots.add(id);
+                            continue;
+                        } else {
+                            AtomicInteger value = noExist.get(areaID);
+                            if (value != null) {
+                                value.incrementAndGet();
                             } else {
-                                AtomicInteger value = noExist.get(areaID);
-                                if (value != null) {
-                                    value.incrementAndGet();
-                                } else {
-                                    noExist.put(areaID, new AtomicInteger(1));
-                                }
-                            }
-                        }
-                        o = resultSet.getString("owner");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            try {
-                                user = UUID.fromString(o);
-                            } catch (IllegalArgumentException e) {
-                                if (Settings.UUID.FORCE_LOWERCASE) {
-                                    user = UUID.nameUUIDFromBytes(
-                                            ("OfflinePlayer:" + o.toLowerCase())
-                                                    .getBytes(Charsets.UTF_8));
-                                } else {
-                                    user = UUID.nameUUIDFromBytes(
-                                            ("OfflinePlayer:" + o).getBytes(Charsets.UTF_8));
-                                }
+                                noExist.put(areaID, new AtomicInteger(1));
                             }
-                            uuids.put(o, user);
                         }
-                        long time;
+                    }
+                    String o = resultSet.getString("owner");
+                    UUID user = uuids.get(o);
+                    if (user == null) {
                         try {
-                            Timestamp timestamp = resultSet.getTimestamp("timestamp");
-                            time = timestamp.getTime();
-                        } catch (SQLException exception) {
-                            String parsable = resultSet.getString("timestamp");
-                            try {
-                                time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(parsable)
-                                        .getTime();
-                            } catch (ParseException e) {
-                                LOGGER.error("Could not parse date for plot: #{}({};{}) ({})",
-                                        id, areaID, plot_id, parsable
-                                );
-                                time = System.currentTimeMillis() + id;
+                            user = UUID.fromString(o);
+                        } catch (IllegalArgumentException e) {
+                            if (Settings.UUID.FORCE_LOWERCASE) {
+                                user = UUID.nameUUIDFromBytes(
+                                        ("OfflinePlayer:" + o.toLowerCase())
+                                                .getBytes(Charsets.UTF_8));
+                            } else {
+                                user = UUID.nameUUIDFromBytes(
+                                        ("OfflinePlayer:" + o).getBytes(Charsets.UTF_8));
                             }
                         }
-                        Plot p = new Plot(plot_id, user, new HashSet<>(), new HashSet<>(),
-                                new HashSet<>(), "", null, null, null,
-                                new boolean[]{false, false, false, false}, time, id
-                        );
-                        HashMap<PlotId, Plot> map = newPlots.get(areaID);
-                        if (map != null) {
-                            Plot last = map.put(p.getId(), p);
-                            if (last != null) {
-                                if (Settings.Enabled_Components.DATABASE_PURGER) {
-                                    toDelete.add(last.temp);
-                                } else {
-                                    LOGGER.info(
-                                            "Plot #{}({}) in `{}plot` is a duplicate."
-                                                    + " Delete this plot or set `database-purger: true` in the settings.yml",
-                                            id,
-                                            last,
-                                            this.prefix
-                                    );
-                                }
-                            }
-                        } else {
-                            map = new HashMap<>();
-                            newPlots.put(areaID, map);
-                            map.put(p.getId(), p);
+                        uuids.put(o, user);
+                    }
+                    long time;
+                    try {
+                        Timestamp timestamp = resultSet.getTimestamp("timestamp");
+                        time = timestamp.getTime();
+                    } catch (SQLException exception) {
+                        String parsable = resultSet.getString("timestamp");
+                        try {
+                            time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(parsable)
+                                    .getTime();
+                        } catch (ParseException e) {
+                            LOGGER.error("Could not parse date for plot: #{}({};{}) ({})",
+                                    id, areaID, plot_id, parsable
+                            );
+                            time = System.currentTimeMillis() + id;
                         }
-                        plots.put(id, p);
                     }
-                    deleteRows(toDelete, this.prefix + "plot", "id");
-                }
-                if (Settings.Enabled_Components.RATING_CACHE) {
-                    try (ResultSet r = statement.executeQuery(
-                            "SELECT `plot_plot_id`, `player`, `rating` FROM `" + this.prefix
-                                    + "plot_rating`")) {
-                        ArrayList<Integer> toDelete = new ArrayList<>();
-                        while (r.next()) {
-                            id = r.getInt("plot_plot_id");
-                            o = r.getString("player");
-                            user = uuids.get(o);
-                            if (user == null) {
-                                user = UUID.fromString(o);
-                                uuids.put(o, user);
-                            }
-                            Plot plot = plots.get(id);
-                            if (plot != null) {
-                                plot.getSettings().getRatings().put(user, r.getInt("rating"));
-                            } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                                toDelete.add(id);
+                    Plot p = new Plot(plot_id, user, new HashSet<>(), new HashSet<>(),
+                            new HashSet<>(), "", null, null, null,
+                            new boolean[]{false, false, false, false}, time, id
+                    );
+                    HashMap<PlotId, Plot> map = newPlots.get(areaID);
+                    if (map != null) {
+                        Plot last = map.put(p.getId(), p);
+                        if (last != null) {
+                            if (Settings.Enabled_Components.DATABASE_PURGER) {
+                                deletedPlots.add(last.temp);
                             } else {
-                                LOGGER.warn("Entry #{}({}) in `plot_rating` does not exist."
-                                        + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
+                                LOGGER.info(
+                                        "Plot #{}({}) in `{}plot` is a duplicate."
+                                                + " Delete this plot or set `database-purger: true` in the settings.yml",
+                                        id,
+                                        last,
+                                        this.prefix
+                                );
                             }
                         }
-                        deleteRows(toDelete, this.prefix + "plot_rating", "plot_plot_id");
+                    } else {
+                        map = new HashMap<>();
+                        newPlots.put(areaID, map);
+                        map.put(p.getId(), p);
                     }
+                    plots.put(id, p);
+                    this.rowIndex.put(areaID, plot_id, id);
                 }
+            }
+            return rows;
+        });
+        if (!loaded) {
+            return newPlots;
+        }
 
-                /*
-                 * Getting helpers
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_helpers`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getTrusted().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_helpers` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_helpers", "plot_plot_id");
-                }
-
-                /*
-                 * Getting trusted
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_trusted`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getMembers().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_trusted` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_trusted", "plot_plot_id");
-                }
-
-                /*
-                 * Getting denied
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_denied`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getDenied().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_denied` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
+        /*
+         * The remaining tables only attach data to the plots loaded above. Each loader touches a different part of
+         * the plots, so they can be read at the same time
+         */
+        List<Runnable> loaders = new ArrayList<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        if (Settings.Enabled_Components.RATING_CACHE) {
+            loaders.add(() -> loadPlotTable(world, failed, "plot_rating", "plot_plot_id", "`plot_plot_id`, `player`, `rating`",
+                    plots, cleanup, (resultSet, plot, uuids) -> plot.getSettings().getRatings()
+                            .put(getUUID(uuids, resultSet.getString("player")), resultSet.getInt("rating"))
+            ));
+        }
+        loaders.add(() -> loadPlotTable(world, failed, "plot_helpers", "plot_plot_id", "`user_uuid`, `plot_plot_id`",
+                plots, cleanup, (resultSet, plot, uuids) -> plot.getTrusted()
+                        .add(getUUID(uuids, resultSet.getString("user_uuid")))
+        ));
+        loaders.add(() -> loadPlotTable(world, failed, "plot_trusted", "plot_plot_id", "`user_uuid`, `plot_plot_id`",
+                plots, cleanup, (resultSet, plot, uuids) -> plot.getMembers()
+                        .add(getUUID(uuids, resultSet.getString("user_uuid")))
+        ));
+        loaders.add(() -> loadPlotTable(world, failed, "plot_denied", "plot_plot_id", "`user_uuid`, `plot_plot_id`",
+                plots, cleanup, (resultSet, plot, uuids) -> plot.getDenied()
+                        .add(getUUID(uuids, resultSet.getString("user_uuid")))
+        ));
+        final Map<Plot, Collection<PlotFlag<?, ?>>> invalidFlags = new HashMap<>();
+        loaders.add(() -> loadPlotTable(world, failed, "plot_flags", "plot_id", "t.*", plots, cleanup,
+                (resultSet, plot, uuids) -> {
+                    final String flag = resultSet.getString("flag");
+                    String value = resultSet.getString("value");
+                    final PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance().getFlagFromString(flag);
+                    if (plotFlag == null) {
+                        plot.getFlagContainer().addUnknownFlag(flag, value);
+                    } else {
+                        value = CaptionUtility.stripClickEvents(plotFlag, value);
+                        try {
+                            plot.getFlagContainer().addFlag(plotFlag.parse(value));
+                        } catch (final FlagParseException e) {
+                            e.printStackTrace();
+                            LOGGER.error("Plot with ID {} has an invalid value:", plot.temp);
+                            LOGGER.error("Failed to parse flag '{}', value '{}': {}",
+                                    plotFlag.getName(), e.getValue(), e.getErrorMessage()
+                            );
+                            invalidFlags.computeIfAbsent(plot, key -> new ArrayList<>()).add(plotFlag);
                         }
                     }
-                    deleteRows(toDelete, this.prefix + "plot_denied", "plot_plot_id");
                 }
-
-                try (final ResultSet resultSet = statement
-                        .executeQuery("SELECT * FROM `" + this.prefix + "plot_flags`")) {
-                    BlockTypeListFlag.skipCategoryVerification =
-                            true; // allow invalid tags, as initialized lazily
-                    final ArrayList<Integer> toDelete = new ArrayList<>();
-                    final Map<Plot, Collection<PlotFlag<?, ?>>> invalidFlags = new HashMap<>();
-                    while (resultSet.next()) {
-                        id = resultSet.getInt("plot_id");
-                        final String flag = resultSet.getString("flag");
-                        String value = resultSet.getString("value");
-                        final Plot plot = plots.get(id);
-                        if (plot != null) {
-                            final PlotFlag<?, ?> plotFlag =
-                                    GlobalFlagContainer.getInstance().getFlagFromString(flag);
-                            if (plotFlag == null) {
-                                plot.getFlagContainer().addUnknownFlag(flag, value);
-                            } else {
-                                value = CaptionUtility.stripClickEvents(plotFlag, value);
-                                try {
-                                    plot.getFlagContainer().addFlag(plotFlag.parse(value));
-                                } catch (final FlagParseException e) {
-                                    e.printStackTrace();
-                                    LOGGER.error("Plot with ID {} has an invalid value:", id);
-                                    LOGGER.error("Failed to parse flag '{}', value '{}': {}",
-                                            plotFlag.getName(), e.getValue(), e.getErrorMessage()
-                                    );
-                                    if (!invalidFlags.containsKey(plot)) {
-                                        invalidFlags.put(plot, new ArrayList<>());
-                                    }
-                                    invalidFlags.get(plot).add(plotFlag);
-                                }
-                            }
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_flags` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
+        ));
+        final Set<Integer> withSettings = new HashSet<>();
+        loaders.add(() -> loadPlotTable(world, failed, "plot_settings", "plot_plot_id", "t.*", plots, cleanup,
+                (resultSet, plot, uuids) -> {
+                    withSettings.add(plot.temp);
+                    String alias = resultSet.getString("alias");
+                    if (alias != null) {
+                        plot.getSettings().setAlias(alias);
                     }
-                    BlockTypeListFlag.skipCategoryVerification =
-                            false; // don't allow invalid tags anymore
-                    if (Settings.Enabled_Components.DATABASE_PURGER) {
-                        for (final Map.Entry<Plot, Collection<PlotFlag<?, ?>>> plotFlagEntry : invalidFlags
-                                .entrySet()) {
-                            for (final PlotFlag<?, ?> flag : plotFlagEntry.getValue()) {
-                                LOGGER.info(
-                                        "Plot {} has an invalid flag ({}). A fix has been attempted",
-                                        plotFlagEntry.getKey(), flag.getName()
-                                );
-                                removeFlag(plotFlagEntry.getKey(), flag);
+                    String pos = resultSet.getString("position");
+                    switch (pos.toLowerCase()) {
+                        case "":
+                        case "default":
+                        case "0,0,0":
+                        case "center":
+                        case "centre":
+                            break;
+                        default:
+                            try {
+                                plot.getSettings().setPosition(BlockLoc.fromString(pos));
+                            } catch (Exception ignored) {
                             }
-                        }
                     }
-                    deleteRows(toDelete, this.prefix + "plot_flags", "plot_id");
+                    int m = resultSet.getInt("merged");
+                    boolean[] merged = new boolean[4];
+                    for (int i = 0; i < 4; i++) {
+                        merged[3 - i] = (m & 1 << i) != 0;
+                    }
+                    plot.getSettings().setMerged(merged);
                 }
+        ));
 
-                try (ResultSet resultSet = statement
-                        .executeQuery("SELECT * FROM `" + this.prefix + "plot_settings`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (resultSet.next()) {
-                        id = resultSet.getInt("plot_plot_id");
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plots.remove(id);
-                            String alias = resultSet.getString("alias");
-                            if (alias != null) {
-                                plot.getSettings().setAlias(alias);
-                            }
-                            String pos = resultSet.getString("position");
-                            switch (pos.toLowerCase()) {
-                                case "":
-                                case "default":
-                                case "0,0,0":
-                                case "center":
-                                case "centre":
-                                    break;
-                                default:
-                                    try {
-                                        plot.getSettings().setPosition(BlockLoc.fromString(pos));
-                                    } catch (Exception ignored) {
-                                    }
-                            }
-                            int m = resultSet.getInt("merged");
-                            boolean[] merged = new boolean[4];
-                            for (int i = 0; i < 4; i++) {
-                                merged[3 - i] = (m & 1 << i) != 0;
-                            }
-                            plot.getSettings().setMerged(merged);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_settings` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_settings", "plot_plot_id");
+        BlockTypeListFlag.skipCategoryVerification = true; // allow invalid tags, as initialized lazily
+        if (this.mySQL) {
+            ExecutorService executor = Executors.newFixedThreadPool(loaders.size());
+            try {
+                CompletableFuture.allOf(loaders.stream()
+                        .map(loader -> CompletableFuture.runAsync(loader, executor))
+                        .toArray(CompletableFuture[]::new)).join();
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            // SQLite reads a single file, so reading the tables at the same time would only add lock contention
+            loaders.forEach(Runnable::run);
+        }
+        BlockTypeListFlag.skipCategoryVerification = false; // don't allow invalid tags anymore
+        if (failed.get()) {
+            // Rows of plots that failed to load must not be mistaken for orphans, nor get a second settings row
+            return newPlots;
+        }
+
+        // Deletions and fixes are only queued once everything has been read, so they can't block the loaders
+        cleanup.forEach(Runnable::run);
+        if (Settings.Enabled_Components.DATABASE_PURGER) {
+            for (final Map.Entry<Plot, Collection<PlotFlag<?, ?>>> plotFlagEntry : invalidFlags.entrySet()) {
+                for (final PlotFlag<?, ?> flag : plotFlagEntry.getValue()) {
+                    LOGGER.info(
+                            "Plot {} has an invalid flag ({}). A fix has been attempted",
+                            plotFlagEntry.getKey(), flag.getName()
+                    );
+                    removeFlag(plotFlagEntry.getKey(), flag);
                 }
             }
-            if (!plots.entrySet().isEmpty()) {
-                createEmptySettings(new ArrayList<>(plots.keySet()), null);
-                for (Entry<Integer, Plot> entry : plots.entrySet()) {
-                    entry.getValue().getSettings();
+        }
+        plots.keySet().removeAll(withSettings);
+        if (!plots.entrySet().isEmpty()) {
+            createEmptySettings(new ArrayList<>(plots.keySet()), null);
+            for (Entry<Integer, Plot> entry : plots.entrySet()) {
+                entry.getValue().getSettings();
+            }
+        }
+        boolean invalidPlot = false;
+        for (Entry<String, AtomicInteger> entry : noExist.entrySet()) {
+            String worldName = entry.getKey();
+            invalidPlot = true;
+            if (Settings.DEBUG) {
+                LOGGER.info("Warning! Found {} plots in DB for non existent world: '{}'",
+                        entry.getValue().intValue(), worldName
+                );
+            }
+        }
+        if (invalidPlot && Settings.DEBUG) {
+            LOGGER.info("Warning! Please create the world(s) or remove the plots using the purge command");
+        }
+        return newPlots;
+    }
+
+    @FunctionalInterface
+    private interface TableLoader {
+
+        int load(Connection connection) throws SQLException;
+
+    }
+
+    @FunctionalInterface
+    private interface PlotRowReader {
+
+        void read(ResultSet resultSet, Plot plot, Map<String, UUID> uuids) throws SQLException;
+
+    }
+
+    /**
+     * Load a table and log how long it took. When using MySQL, the table is read using a connection of its own.
+     *
+     * @param table  table name, without prefix
+     * @param loader reads the table and returns the amount of rows read
+     * @return {@code true} if the table was loaded
+     */
+    private boolean loadTable(String table, TableLoader loader) {
+        long start = System.currentTimeMillis();
+        try {
+            int rows;
+            if (this.mySQL) {
+                try (Connection connection = this.database.createConnection()) {
+                    rows = loader.load(connection);
                 }
+            } else {
+                rows = loader.load(this.connection);
             }
-            boolean invalidPlot = false;
-            for (Entry<String, AtomicInteger> entry : noExist.entrySet()) {
-                String worldName = entry.getKey();
-                invalidPlot = true;
-                if (Settings.DEBUG) {
-                    LOGGER.info("Warning! Found {} plots in DB for non existent world: '{}'",
-                            entry.getValue().intValue(), worldName
-                    );
+            LOGGER.info("Loaded {} rows from `{}{}` in {}ms", rows, this.prefix, table,
+                    System.currentTimeMillis() - start
+            );
+            return true;
+        } catch (SQLException | ClassNotFoundException e) {
+            LOGGER.error("Failed to load `{}{}`", this.prefix, table, e);
+            return false;
+        }
+    }
+
+    /**
+     * Load a table that stores data of plots, passing every row to the reader along with its plot.
+     * Rows of plots that don't exist are deleted once all tables have been loaded, if the database purger is enabled.
+     * If a world is given, only rows of plots in that area are read. The table can be referred to as {@code t}.
+     */
+    private void loadPlotTable(
+            @Nullable String world, AtomicBoolean failed, String table, String column, String columns, Map<Integer, Plot> plots,
+            Queue<Runnable> cleanup, PlotRowReader reader
+    ) {
+        boolean loaded = loadTable(table, connection -> {
+            int rows = 0;
+            Map<String, UUID> uuids = new HashMap<>();
+            ArrayList<Integer> toDelete = new ArrayList<>();
+            String query = "SELECT " + columns + " FROM `" + this.prefix + table + "` t";
+            if (world != null) {
+                query += " INNER JOIN `" + this.prefix + "plot` p ON t.`" + column + "` = p.`id` WHERE p.`world` = ?";
+            }
+            try (PreparedStatement statement = prepareLoadStatement(connection, query, world);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                    int id = resultSet.getInt(column);
+                    Plot plot = plots.get(id);
+                    if (plot != null) {
+                        reader.read(resultSet, plot, uuids);
+                    } else if (Settings.Enabled_Components.DATABASE_PURGER) {
+                        toDelete.add(id);
+                    } else {
+                        LOGGER.warn("Entry #{} in `{}{}` does not exist."
+                                + " Create this plot or set `database-purger: true` in settings.yml", id, this.prefix, table);
+                    }
                 }
             }
-            if (invalidPlot && Settings.DEBUG) {
-                LOGGER.info("Warning! Please create the world(s) or remove the plots using the purge command");
+            if (!toDelete.isEmpty()) {
+                cleanup.add(() -> deleteRows(toDelete, this.prefix + table, column));
             }
-        } catch (SQLException e) {
-            LOGGER.error("Failed to load plots", e);
+            return rows;
+        });
+        if (!loaded) {
+            failed.set(true);
         }
-        return newPlots;
+    }
+
+    private PreparedStatement prepareLoadStatement(Connection connection, String query, @Nullable String world)
+            throws SQLException {
+        PreparedStatement statement =
+                connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (this.mySQL) {
+            // Makes MySQL Connector/J stream the rows instead of reading the whole table into memory first
+            statement.setFetchSize(Integer.MIN_VALUE);
+        }
+        if (world != null) {
+            statement.setString(1, world);
+        }
+        return statement;
+    }
+
+    private static UUID getUUID(Map<String, UUID> uuids, String uuid) {
+        return uuids.computeIfAbsent(uuid, UUID::fromString);
     }
 
     @Override
     public void setMerged(final Plot plot, final boolean[] merged) {
         plot.getSettings().setMerged(merged);
-        addPlotTask(plot, new UniqueStatement("setMerged") {
+        addPlotTask(plot, new UniqueStatement("setMerged", "merged", false) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 int hash = HashUtil.hash(merged);
@@ -2161,8 +2142,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `merged` = ? WHERE `plot_plot_id` = ?");
             }
@@ -2188,6 +2169,8 @@ public class SQLManager implements AbstractDB {
                 preparedStatement.setInt(2, pos2.getY());
                 preparedStatement.setInt(3, id2);
                 preparedStatement.execute();
+                this.rowIndex.put(plot1.getArea().toString(), pos1, id1);
+                this.rowIndex.put(plot2.getArea().toString(), pos2, id2);
             } catch (final Exception e) {
                 LOGGER.error("Failed to persist wap of {} and {}", plot1, plot2);
                 e.printStackTrace();
@@ -2206,13 +2189,17 @@ public class SQLManager implements AbstractDB {
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, newPlot.getId().getX());
                 statement.setInt(2, newPlot.getId().getY());
+                int id = getId(original);
                 statement.setString(3, newPlot.getArea().toString());
-                statement.setInt(4, getId(original));
+                statement.setInt(4, id);
+                // Plot#moveData has already changed the id of the original plot, so its old key is only known by row
+                SQLManager.this.rowIndex.removeRows(Collections.singleton(id));
+                SQLManager.this.rowIndex.put(newPlot.getArea().toString(), newPlot.getId(), id);
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `plot_id_x` = ?, `plot_id_z` = ?, `world` = ? WHERE `id` = ?");
             }
@@ -2222,7 +2209,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("setFlag") {
+        addPlotTask(plot, new UniqueStatement("setFlag", "flag:" + flag.getName(), false) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2232,7 +2219,7 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
+            public PreparedStatement get(Connection connection) throws SQLException {
                 final String statement;
                 if (SQLManager.this.mySQL) {
                     statement = "INSERT INTO `" + SQLManager.this.prefix
@@ -2243,14 +2230,14 @@ public class SQLManager implements AbstractDB {
                             + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?) "
                             + "ON CONFLICT(`plot_id`,`flag`) DO UPDATE SET `value` = ?";
                 }
-                return SQLManager.this.connection.prepareStatement(statement);
+                return connection.prepareStatement(statement);
             }
         });
     }
 
     @Override
     public void removeFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("removeFlag") {
+        addPlotTask(plot, new UniqueStatement("removeFlag", "flag:" + flag.getName(), false) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2258,8 +2245,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_flags` WHERE `plot_id` = ? AND `flag` = ?");
             }
@@ -2268,7 +2255,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setAlias(final Plot plot, final String alias) {
-        addPlotTask(plot, new UniqueStatement("setAlias") {
+        addPlotTask(plot, new UniqueStatement("setAlias", "alias", false) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, alias);
@@ -2276,8 +2263,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `alias` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2291,6 +2278,7 @@ public class SQLManager implements AbstractDB {
     public void purgeIds(final Set<Integer> uniqueIds) {
         addGlobalTask(() -> {
             if (!uniqueIds.isEmpty()) {
+                this.rowIndex.removeRows(uniqueIds);
                 try {
                     ArrayList<Integer> uniqueIdsList = new ArrayList<>(uniqueIds);
                     int size = uniqueIdsList.size();
@@ -2350,24 +2338,54 @@ public class SQLManager implements AbstractDB {
         });
     }
 
+    /**
+     * Get the database ids of many plots in an area at once. Plots that are not indexed yet are looked up
+     * using a single query.
+     *
+     * @param area    area containing the plots
+     * @param plotIds ids of the plots
+     * @return database ids by plot id. Plots that are not stored in the database are absent
+     * @throws SQLException if the plots that are not indexed could not be looked up
+     * @since 6.8.0
+     */
+    public Map<PlotId, Integer> getIds(PlotArea area, Collection<PlotId> plotIds) throws SQLException {
+        String world = area.toString();
+        Map<PlotId, Integer> ids = new HashMap<>();
+        Set<PlotId> missing = new HashSet<>();
+        for (PlotId plotId : plotIds) {
+            int id = this.rowIndex.get(world, plotId);
+            if (id > 0) {
+                ids.put(plotId, id);
+            } else {
+                missing.add(plotId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return ids;
+        }
+        try (PreparedStatement stmt = this.connection.prepareStatement(
+                "SELECT `id`, `plot_id_x`, `plot_id_z` FROM `" + this.prefix
+                        + "plot` WHERE `world` = ? ORDER BY `timestamp` ASC")) {
+            stmt.setString(1, world);
+            try (ResultSet r = stmt.executeQuery()) {
+                while (r.next()) {
+                    PlotId plotId = PlotId.of(r.getInt("plot_id_x"), r.getInt("plot_id_z"));
+                    if (missing.contains(plotId)) {
+                        int id = r.getInt("id");
+                        ids.put(plotId, id);
+                        this.rowIndex.put(world, plotId, id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
     @Override
     public void purge(final PlotArea area, final Set<PlotId> plots) {
         addGlobalTask(() -> {
-            try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
-                    "SELECT `id`, `plot_id_x`, `plot_id_z` FROM `" + SQLManager.this.prefix
-                            + "plot` WHERE `world` = ?")) {
-                stmt.setString(1, area.toString());
-                Set<Integer> ids;
-                try (ResultSet r = stmt.executeQuery()) {
-                    ids = new HashSet<>();
-                    while (r.next()) {
-                        PlotId plot_id = PlotId.of(r.getInt("plot_id_x"), r.getInt("plot_id_z"));
-                        if (plots.contains(plot_id)) {
-                            ids.add(r.getInt("id"));
-                        }
-                    }
-                }
-                purgeIds(ids);
+            try {
+                purgeIds(new HashSet<>(getIds(area, plots).values()));
             } catch (SQLException e) {
                 LOGGER.error("Failed to purge area '{}'", area);
                 e.printStackTrace();
@@ -2383,7 +2401,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setPosition(final Plot plot, final String position) {
-        addPlotTask(plot, new UniqueStatement("setPosition") {
+        addPlotTask(plot, new UniqueStatement("setPosition", "position", false) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, position == null ? "" : position);
@@ -2391,8 +2409,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `position` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2418,13 +2436,13 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
+            public PreparedStatement get(Connection connection) throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return connection.prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `comment` = ? AND `inbox` = ? AND `sender` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `comment` = ? AND `inbox` = ? AND `sender` = ?");
             }
@@ -2446,13 +2464,13 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
+            public PreparedStatement get(Connection connection) throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return connection.prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot_comments` `inbox` = ?");
             }
         });
@@ -2476,13 +2494,13 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
+            public PreparedStatement get(Connection connection) throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return connection.prepareStatement(
                             "SELECT * FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return connection.prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `inbox` = ?");
             }
@@ -2532,8 +2550,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_comments` (`world`, `hashcode`, `comment`, `inbox`, `timestamp`, `sender`) VALUES(?,?,?,?,?,?)");
             }
@@ -2542,7 +2560,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void removeTrusted(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("removeTrusted") {
+        addPlotTask(plot, new UniqueStatement("removeTrusted", "trusted:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2550,8 +2568,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2560,7 +2578,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void removeMember(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("removeMember") {
+        addPlotTask(plot, new UniqueStatement("removeMember", "member:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2568,8 +2586,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2578,7 +2596,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setTrusted(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("setTrusted") {
+        addPlotTask(plot, new UniqueStatement("setTrusted", "trusted:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2586,8 +2604,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_helpers` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2596,7 +2614,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setMember(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("setMember") {
+        addPlotTask(plot, new UniqueStatement("setMember", "member:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2604,8 +2622,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_trusted` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2614,7 +2632,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void removeDenied(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("removeDenied") {
+        addPlotTask(plot, new UniqueStatement("removeDenied", "denied:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2622,8 +2640,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2632,7 +2650,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setDenied(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("setDenied") {
+        addPlotTask(plot, new UniqueStatement("setDenied", "denied:" + uuid, true) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2640,8 +2658,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_denied` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2680,8 +2698,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_rating` (`plot_plot_id`, `rating`, `player`) VALUES(?,?,?)");
             }
@@ -2698,8 +2716,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_settings` WHERE `cluster_id` = ?");
             }
@@ -2711,8 +2729,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ?");
             }
@@ -2724,8 +2742,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ?");
             }
@@ -2737,8 +2755,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "cluster` WHERE `id` = ?");
             }
         });
@@ -2764,13 +2782,13 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
+            public PreparedStatement get(Connection connection) throws SQLException {
                 if (replace) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return connection.prepareStatement(
                             "UPDATE `" + SQLManager.this.prefix
                                     + "player_meta` SET `value` = ? WHERE `uuid` = ? AND `key` = ?");
                 } else {
-                    return SQLManager.this.connection.prepareStatement(
+                    return connection.prepareStatement(
                             "INSERT INTO `" + SQLManager.this.prefix
                                     + "player_meta`(`uuid`, `key`, `value`) VALUES(?, ? ,?)");
                 }
@@ -2788,8 +2806,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? AND `key` = ?");
             }
@@ -2805,8 +2823,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? ORDER BY `meta_id` ASC");
             }
@@ -2993,8 +3011,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `alias` = ?  WHERE `cluster_id` = ?");
             }
@@ -3012,8 +3030,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3030,8 +3048,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_helpers` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3052,8 +3070,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         SQLManager.this.CREATE_CLUSTER,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -3083,8 +3101,8 @@ public class SQLManager implements AbstractDB {
                     }
 
                     @Override
-                    public PreparedStatement get() throws SQLException {
-                        return SQLManager.this.connection.prepareStatement(
+                    public PreparedStatement get(Connection connection) throws SQLException {
+                        return connection.prepareStatement(
                                 "INSERT INTO `" + SQLManager.this.prefix
                                         + "cluster_settings`(`cluster_id`, `alias`) VALUES(?, ?)");
                     }
@@ -3110,8 +3128,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `pos1_x` = ?, `pos1_z` = ?, `pos2_x` = ?, `pos2_z` = ?  WHERE `id` = ?");
             }
@@ -3128,8 +3146,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `position` = ?  WHERE `cluster_id` = ?");
             }
@@ -3146,8 +3164,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3164,8 +3182,8 @@ public class SQLManager implements AbstractDB {
             }
 
             @Override
-            public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+            public PreparedStatement get(Connection connection) throws SQLException {
+                return connection.prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_invited` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3177,9 +3195,7 @@ public class SQLManager implements AbstractDB {
         try (Statement stmt = this.connection.createStatement();
              PreparedStatement statement = this.connection
                      .prepareStatement("DROP TABLE `" + this.prefix + "plot`")) {
-            close();
-            this.closed = false;
-            SQLManager.this.connection = this.database.forceConnection();
+            reconnect();
             stmt.addBatch("DROP TABLE `" + this.prefix + "cluster_invited`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "cluster_helpers`");
             stmt.addBatch("DROP TABLE `" + this.prefix + "cluster`");
@@ -3192,7 +3208,7 @@ public class SQLManager implements AbstractDB {
             stmt.executeBatch();
             stmt.clearBatch();
             statement.executeUpdate();
-        } catch (ClassNotFoundException | SQLException e) {
+        } catch (SQLException e) {
             e.printStackTrace();
 
         }
@@ -3207,12 +3223,8 @@ public class SQLManager implements AbstractDB {
         }
         LOGGER.info(
                 "All DB transactions during this session are being validated (This may take a while if corrections need to be made)");
+        flush();
         commit();
-        while (true) {
-            if (!sendBatch()) {
-                break;
-            }
-        }
         try {
             if (this.connection.getAutoCommit()) {
                 this.connection.setAutoCommit(false);
@@ -3419,6 +3431,10 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        for (SQLWriter writer : this.writers) {
+            writer.close();
+            writer.signal();
+        }
     }
 
     private static class LegacySettings {
@@ -3436,9 +3452,28 @@ public class SQLManager implements AbstractDB {
     public abstract static class UniqueStatement {
 
         public final String method;
+        final String key;
+        final boolean cancels;
+        long queuedAt;
 
         public UniqueStatement(String method) {
+            this(method, null, false);
+        }
+
+        /**
+         * Create a statement that may be merged with statements queued for the same plot.
+         * A statement with the same key that has not been written yet is replaced by this one. If {@code cancels}
+         * is {@code true} and the queued statement has a different method, both statements are dropped instead.
+         *
+         * @param method  statement method, used to batch statements
+         * @param key     key of the value the statement writes, or {@code null} if it may not be merged
+         * @param cancels whether the statement undoes a queued statement with the same key and another method
+         * @since 6.8.0
+         */
+        public UniqueStatement(String method, String key, boolean cancels) {
             this.method = method;
+            this.key = key;
+            this.cancels = cancels;
         }
 
         public void addBatch(PreparedStatement statement) throws SQLException {
@@ -3449,7 +3484,7 @@ public class SQLManager implements AbstractDB {
             statement.executeBatch();
         }
 
-        public abstract PreparedStatement get() throws SQLException;
+        public abstract PreparedStatement get(Connection connection) throws SQLException;
 
         public abstract void set(PreparedStatement statement) throws SQLException;
 
@@ -3459,4 +3494,248 @@ public class SQLManager implements AbstractDB {
 
     }
 
+    /**
+     * Writes the queued statements of the plots, players and clusters assigned to it using its own connection.
+     * The first writer uses the main connection and also runs the global tasks.
+     */
+    private final class SQLWriter implements Runnable {
+
+        private final int index;
+        private Connection connection;
+        private volatile Thread thread;
+        private volatile boolean busy;
+        private long oldestQueuedAt;
+
+        private SQLWriter(int index, Connection connection) {
+            this.index = index;
+            this.connection = connection;
+        }
+
+        private Connection getConnection() {
+            return this.index == 0 ? SQLManager.this.connection : this.connection;
+        }
+
+        /**
+         * Wake the writer up if it is waiting for statements to be queued.
+         */
+        private void signal() {
+            Thread thread = this.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            this.thread = Thread.currentThread();
+            long last = System.currentTimeMillis();
+            while (!SQLManager.this.closed) {
+                if (!hasTask()) {
+                    runNotifyTasks();
+                    // Statements queued while we were busy leave a permit, so this never misses a signal
+                    LockSupport.park(this);
+                    linger();
+                    continue;
+                }
+                if (SQLManager.this.mySQL && System.currentTimeMillis() - last > 550000
+                        || !isValid()) {
+                    last = System.currentTimeMillis();
+                    reconnect();
+                }
+                if (!sendBatch()) {
+                    // Nothing could be written, so back off instead of retrying immediately
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(50));
+                }
+            }
+            this.thread = null;
+        }
+
+        /**
+         * Wait for the configured linger time, so a burst of statements is written in a single transaction.
+         */
+        private void linger() {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Settings.Database.LINGER_TIME);
+            long remaining;
+            while (!SQLManager.this.closed && (remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, remaining);
+            }
+        }
+
+        private boolean hasTask() {
+            if (this.index == 0 && !getGlobalTasks().isEmpty()) {
+                return true;
+            }
+            return hasTask(SQLManager.this.plotTasks) || hasTask(SQLManager.this.playerTasks)
+                    || hasTask(SQLManager.this.clusterTasks);
+        }
+
+        private boolean hasTask(Map<?, Queue<UniqueStatement>> tasks) {
+            for (Entry<?, Queue<UniqueStatement>> entry : tasks.entrySet()) {
+                if (getWriter(entry.getKey()) == this && !entry.getValue().isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isValid() {
+            return SQLManager.isValid(getConnection());
+        }
+
+        private void reconnect() {
+            if (this.index == 0) {
+                SQLManager.this.reconnect();
+                return;
+            }
+            close();
+            try {
+                this.connection = SQLManager.this.database.createConnection();
+            } catch (SQLException | ClassNotFoundException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private void close() {
+            if (this.index == 0) {
+                return;
+            }
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private void commit() {
+            SQLManager.this.commit(getConnection());
+        }
+
+        private boolean sendBatch() {
+            // Set before checking the global tasks, so the first writer either sees this writer as busy or this
+            // writer sees the queued global task
+            this.busy = true;
+            try {
+                Connection connection = getConnection();
+                if (!getGlobalTasks().isEmpty()) {
+                    if (this.index != 0) {
+                        // Global tasks run before any statement queued after them, as the statements may depend on
+                        // them. The first writer wakes the others once all global tasks have run
+                        return false;
+                    }
+                    awaitOtherWriters();
+                    if (connection.getAutoCommit()) {
+                        connection.setAutoCommit(false);
+                    }
+                    Runnable task = getGlobalTasks().poll();
+                    if (task != null) {
+                        SQLManager.this.statistics.statementsRemoved(1);
+                        try {
+                            task.run();
+                        } catch (Throwable e) {
+                            logBatchError(e);
+                        }
+                    }
+                    commit();
+                    if (getGlobalTasks().isEmpty()) {
+                        for (SQLWriter writer : SQLManager.this.writers) {
+                            writer.signal();
+                        }
+                    }
+                    return true;
+                }
+                this.oldestQueuedAt = Long.MAX_VALUE;
+                int limit = Math.max(1, Settings.Database.BATCH_SIZE);
+                int count = sendBatch(connection, SQLManager.this.plotTasks, limit);
+                count += sendBatch(connection, SQLManager.this.playerTasks, limit - count);
+                count += sendBatch(connection, SQLManager.this.clusterTasks, limit - count);
+                if (count > 0) {
+                    commit();
+                    SQLManager.this.statistics.batchFlushed(count, this.oldestQueuedAt);
+                    return true;
+                }
+            } catch (Throwable e) {
+                logBatchError(e);
+            } finally {
+                this.busy = false;
+            }
+            return false;
+        }
+
+        /**
+         * Wait for the other writers to finish the batch they are writing. They do not start a new one while
+         * global tasks are queued.
+         */
+        private void awaitOtherWriters() {
+            for (SQLWriter writer : SQLManager.this.writers) {
+                while (writer != this && writer.busy && !SQLManager.this.closed) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+        }
+
+        /**
+         * Send the next statement of every key assigned to this writer, batching consecutive statements
+         * of the same type into a single prepared statement.
+         *
+         * @return the number of statements sent
+         */
+        private <K> int sendBatch(
+                Connection connection, Map<K, Queue<UniqueStatement>> tasks,
+                int limit
+        ) throws SQLException {
+            int count = 0;
+            String method = null;
+            PreparedStatement statement = null;
+            UniqueStatement lastTask = null;
+            Iterator<Entry<K, Queue<UniqueStatement>>> iterator = tasks.entrySet().iterator();
+            while (count < limit && iterator.hasNext()) {
+                Entry<K, Queue<UniqueStatement>> entry = iterator.next();
+                if (getWriter(entry.getKey()) != this) {
+                    continue;
+                }
+                try {
+                    Queue<UniqueStatement> queue = entry.getValue();
+                    UniqueStatement task = queue.poll();
+                    if (queue.isEmpty()) {
+                        removeIfEmpty(tasks, entry.getKey(), queue);
+                    }
+                    if (task == null) {
+                        continue;
+                    }
+                    SQLManager.this.statistics.statementsRemoved(1);
+                    this.oldestQueuedAt = Math.min(this.oldestQueuedAt, task.queuedAt);
+                    if (connection.getAutoCommit()) {
+                        connection.setAutoCommit(false);
+                    }
+                    count++;
+                    if (task.method == null || !task.method.equals(method) || statement == null) {
+                        if (statement != null) {
+                            lastTask.execute(statement);
+                            statement.close();
+                        }
+                        method = task.method;
+                        statement = task.get(connection);
+                    }
+                    task.set(statement);
+                    task.addBatch(statement);
+                    try {
+                        if (statement.isClosed()) {
+                            statement = null;
+                        }
+                    } catch (NullPointerException | AbstractMethodError ignore) {
+                    }
+                    lastTask = task;
+                } catch (Throwable e) {
+                    logBatchError(e);
+                }
+            }
+            if (statement != null && lastTask != null) {
+                lastTask.execute(statement);
+                statement.close();
+            }
+            return count;
+        }
+
+    }
+
 }
@@ -0,0 +1,90 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.database;
+
+import com.plotsquared.core.database.SQLManager.UniqueStatement;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Merges statements with statements for the same value that are still queued for the same owner. Not thread safe,
+ * access must be guarded by the lock of the queues.
+ *
+ * @param <K> owner of the queues, such as a plot
+ */
+final class StatementCoalescer<K> {
+
+    private final DatabaseStatistics statistics;
+    // Statements that may still be merged, by owner and key
+    private final Map<K, Map<String, UniqueStatement>> pending = new HashMap<>();
+
+    StatementCoalescer(DatabaseStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Merge a statement with a statement for the same value that is still queued for the owner. The queued statement
+     * is removed from the queue if it is replaced or cancelled.
+     *
+     * @param owner owner of the queue
+     * @param queue statements queued for the owner
+     * @param task  statement about to be queued
+     * @return {@code true} if the statement cancelled the queued one and must not be queued itself
+     */
+    boolean coalesce(K owner, Queue<UniqueStatement> queue, UniqueStatement task) {
+        if (task.key == null) {
+            // Statements may not be moved across one that cannot be merged, as it may depend on them
+            this.pending.remove(owner);
+            return false;
+        }
+        Map<String, UniqueStatement> statements = this.pending.computeIfAbsent(owner, key -> new HashMap<>());
+        UniqueStatement previous = statements.remove(task.key);
+        // The queued statement may already have been taken by a writer, in which case the new one is still needed
+        if (previous == null || !queue.remove(previous)) {
+            statements.put(task.key, task);
+            return false;
+        }
+        this.statistics.statementsRemoved(1);
+        if (task.cancels && !previous.method.equals(task.method)) {
+            this.statistics.statementsElided(2);
+            return true;
+        }
+        this.statistics.statementsElided(1);
+        task.queuedAt = previous.queuedAt;
+        statements.put(task.key, task);
+        return false;
+    }
+
+    /**
+     * Forget the statements of an owner, once its queue has been taken or removed
+     */
+    void remove(K owner) {
+        this.pending.remove(owner);
+    }
+
+}
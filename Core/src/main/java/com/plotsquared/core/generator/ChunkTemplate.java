@@ -0,0 +1,153 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.queue.PaletteSection;
+import com.plotsquared.core.queue.ScopedQueueCoordinator;
+import com.plotsquared.core.util.ChunkUtil;
+import com.plotsquared.core.util.PatternUtil;
+import com.sk89q.worldedit.function.pattern.Pattern;
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import com.sk89q.worldedit.world.block.BlockState;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Records the blocks and biomes generated for a single chunk so that they can be applied to every other chunk with the
+ * same position relative to the plot grid. Only usable for generators that always produce the same blocks for such
+ * chunks, i.e. without random patterns.
+ */
+final class ChunkTemplate extends ScopedQueueCoordinator {
+
+    private final PaletteSection<BaseBlock>[] sections;
+    private final BiomeType[] columnBiomes = new BiomeType[256];
+    private final int minY;
+    private final int maxY;
+    private final int minSection;
+    private BiomeType biome;
+
+    @SuppressWarnings("unchecked")
+    ChunkTemplate(int minY, int maxY) {
+        super(null, Location.at("", 0, minY, 0), Location.at("", 15, maxY, 15));
+        this.minY = minY;
+        this.maxY = maxY;
+        this.minSection = minY >> 4;
+        this.sections = new PaletteSection[(maxY >> 4) - this.minSection + 1];
+    }
+
+    /**
+     * Apply the recorded blocks and biomes to a chunk. Sections consisting of a single block are set as a whole.
+     *
+     * @param result chunk to apply the template to
+     */
+    void apply(@NonNull ScopedQueueCoordinator result) {
+        if (this.biome != null) {
+            result.fillBiome(this.biome);
+        }
+        for (int i = 0; i < this.columnBiomes.length; i++) {
+            if (this.columnBiomes[i] != null) {
+                result.setBiome(i & 15, i >> 4, this.columnBiomes[i]);
+            }
+        }
+        for (int layer = 0; layer < this.sections.length; layer++) {
+            final PaletteSection<BaseBlock> section = this.sections[layer];
+            if (section == null || section.isEmpty()) {
+                continue;
+            }
+            final int sectionY = layer + this.minSection;
+            final BaseBlock uniform = section.getUniform();
+            if (uniform != null && !uniform.hasNbtData()) {
+                final int y = sectionY << 4;
+                result.setCuboid(
+                        Location.at("", 0, Math.max(y, this.minY), 0),
+                        Location.at("", 15, Math.min(y + 15, this.maxY), 15),
+                        uniform.toImmutableState()
+                );
+                continue;
+            }
+            section.forEach((j, block) -> result.setBlock(
+                    ChunkUtil.getX(j),
+                    ChunkUtil.getY(sectionY, j),
+                    ChunkUtil.getZ(j),
+                    block
+            ));
+        }
+    }
+
+    @Override
+    public boolean setBlock(int x, int y, int z, @NonNull BaseBlock id) {
+        if (y < this.minY || y > this.maxY) {
+            return false;
+        }
+        final int layer = (y >> 4) - this.minSection;
+        PaletteSection<BaseBlock> section = this.sections[layer];
+        if (section == null) {
+            this.sections[layer] = section = new PaletteSection<>();
+        }
+        section.set(ChunkUtil.getJ(x, y, z), id);
+        return true;
+    }
+
+    @Override
+    public boolean setBlock(int x, int y, int z, @NonNull BlockState id) {
+        return setBlock(x, y, z, id.toBaseBlock());
+    }
+
+    @Override
+    public boolean setBlock(int x, int y, int z, @NonNull Pattern pattern) {
+        return setBlock(x, y, z, PatternUtil.apply(pattern, x, y, z));
+    }
+
+    @Override
+    public @Nullable BlockState getBlock(int x, int y, int z) {
+        if (y < this.minY || y > this.maxY) {
+            return null;
+        }
+        final PaletteSection<BaseBlock> section = this.sections[(y >> 4) - this.minSection];
+        if (section == null) {
+            return null;
+        }
+        final BaseBlock block = section.get(ChunkUtil.getJ(x, y, z));
+        return block == null ? null : block.toImmutableState();
+    }
+
+    @Override
+    public void fillBiome(BiomeType biome) {
+        this.biome = biome;
+        Arrays.fill(this.columnBiomes, null);
+    }
+
+    @Override
+    public boolean setBiome(int x, int z, @NonNull BiomeType biome) {
+        this.columnBiomes[((z & 15) << 4) | (x & 15)] = biome;
+        return true;
+    }
+
+}
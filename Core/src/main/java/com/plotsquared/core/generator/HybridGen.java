@@ -65,7 +65,7 @@ public class HybridGen extends IndependentPlotGenerator {
         } else {
             minY = world.getMinBuildHeight();
         }
-        BaseBlock[] blocks = world.G_SCH.get(MathMan.pair(relativeX, relativeZ));
+        BaseBlock[] blocks = world.getSchematicColumn(relativeX, relativeZ);
         if (blocks != null) {
             for (int y = 0; y < blocks.length; y++) {
                 if (blocks[y] != null) {
@@ -73,7 +73,7 @@ public class HybridGen extends IndependentPlotGenerator {
                 }
             }
         }
-        BiomeType biome = world.G_SCH_B.get(MathMan.pair(relativeX, relativeZ));
+        BiomeType biome = world.getSchematicBiome(relativeX, relativeZ);
         if (biome != null) {
             result.setBiome(x, z, biome);
         }
@@ -85,16 +85,6 @@ public class HybridGen extends IndependentPlotGenerator {
         Preconditions.checkNotNull(settings, "settings cannot be null");
 
         HybridPlotWorld hybridPlotWorld = (HybridPlotWorld) settings;
-        // Biome
-        result.fillBiome(hybridPlotWorld.getPlotBiome());
-        // Bedrock
-        if (hybridPlotWorld.PLOT_BEDROCK) {
-            for (short x = 0; x < 16; x++) {
-                for (short z = 0; z < 16; z++) {
-                    result.setBlock(x, hybridPlotWorld.getMinGenHeight(), z, BlockTypes.BEDROCK.getDefaultState());
-                }
-            }
-        }
         // Coords
         Location min = result.getMin();
         int bx = min.getX() - hybridPlotWorld.ROAD_OFFSET_X;
@@ -115,6 +105,44 @@ public class HybridGen extends IndependentPlotGenerator {
         } else {
             relativeOffsetZ = (short) (bz % hybridPlotWorld.SIZE);
         }
+        // Chunks at the same position relative to the plot grid look the same, unless random patterns are used
+        if (!hasConstantComponents(hybridPlotWorld)) {
+            generate(result, hybridPlotWorld, relativeOffsetX, relativeOffsetZ);
+            return;
+        }
+        final int key = MathMan.pair(relativeOffsetX, relativeOffsetZ);
+        ChunkTemplate template = hybridPlotWorld.getChunkTemplate(key);
+        if (template == null) {
+            template = new ChunkTemplate(
+                    Math.min(hybridPlotWorld.getMinGenHeight(), hybridPlotWorld.getMinBuildHeight()),
+                    Math.max(hybridPlotWorld.getMaxGenHeight(), hybridPlotWorld.getMaxBuildHeight())
+            );
+            generate(template, hybridPlotWorld, relativeOffsetX, relativeOffsetZ);
+            hybridPlotWorld.putChunkTemplate(key, template);
+        }
+        template.apply(result);
+    }
+
+    private static boolean hasConstantComponents(@NonNull HybridPlotWorld hybridPlotWorld) {
+        return hybridPlotWorld.MAIN_BLOCK.getSingle() != null && hybridPlotWorld.TOP_BLOCK.getSingle() != null
+                && hybridPlotWorld.ROAD_BLOCK.getSingle() != null && hybridPlotWorld.WALL_FILLING.getSingle() != null
+                && (!hybridPlotWorld.PLACE_TOP_BLOCK || hybridPlotWorld.WALL_BLOCK.getSingle() != null);
+    }
+
+    private void generate(
+            @NonNull ScopedQueueCoordinator result, @NonNull HybridPlotWorld hybridPlotWorld,
+            short relativeOffsetX, short relativeOffsetZ
+    ) {
+        // Biome
+        result.fillBiome(hybridPlotWorld.getPlotBiome());
+        // Bedrock
+        if (hybridPlotWorld.PLOT_BEDROCK) {
+            for (short x = 0; x < 16; x++) {
+                for (short z = 0; z < 16; z++) {
+                    result.setBlock(x, hybridPlotWorld.getMinGenHeight(), z, BlockTypes.BEDROCK.getDefaultState());
+                }
+            }
+        }
         // The X-coordinate of a given X coordinate, relative to the
         // plot (Counting from the corner with the least positive
         // coordinates)
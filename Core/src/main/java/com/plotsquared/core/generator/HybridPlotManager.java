@@ -37,9 +37,9 @@ import com.plotsquared.core.plot.PlotAreaTerrainType;
 import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.FileBytes;
 import com.plotsquared.core.util.FileUtils;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.WorldUtil;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -176,7 +176,7 @@ public class HybridPlotManager extends ClassicPlotManager {
                 if (absZ < 0) {
                     absZ += size;
                 }
-                BaseBlock[] blocks = hybridPlotWorld.G_SCH.get(MathMan.pair(absX, absZ));
+                BaseBlock[] blocks = hybridPlotWorld.getSchematicColumn(absX, absZ);
                 if (blocks != null) {
                     for (int y = 0; y < blocks.length; y++) {
                         if (blocks[y] != null) {
@@ -187,7 +187,7 @@ public class HybridPlotManager extends ClassicPlotManager {
                         }
                     }
                 }
-                BiomeType biome = hybridPlotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                BiomeType biome = hybridPlotWorld.getSchematicBiome(absX, absZ);
                 if (biome != null) {
                     queue.setBiome(x, z, biome);
                 } else {
@@ -273,8 +273,11 @@ public class HybridPlotManager extends ClassicPlotManager {
             enqueue = true;
             queue = hybridPlotWorld.getQueue();
         }
-        if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+        if (actor != null) {
+            queue.setPriority(QueuePriority.HIGH);
+            if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            }
         }
         if (whenDone != null) {
             queue.setCompleteTask(whenDone);
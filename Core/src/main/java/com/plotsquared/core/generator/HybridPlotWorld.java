@@ -62,21 +62,44 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 public class HybridPlotWorld extends ClassicPlotWorld {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + HybridPlotWorld.class.getSimpleName());
     private static final AffineTransform transform = new AffineTransform().rotateY(90);
+    // Enough to hold every chunk layout of plot worlds with a size up to 64 blocks
+    private static final int MAX_CHUNK_TEMPLATES = 4096;
     public boolean ROAD_SCHEMATIC_ENABLED;
     public boolean PLOT_SCHEMATIC = false;
     public int PLOT_SCHEMATIC_HEIGHT = -1;
     public short PATH_WIDTH_LOWER;
     public short PATH_WIDTH_UPPER;
+    /**
+     * @deprecated Use {@link #getSchematicColumn(int, int)}
+     */
+    @Deprecated(forRemoval = true, since = "6.8.0")
     public HashMap<Integer, BaseBlock[]> G_SCH;
+    /**
+     * @deprecated Use {@link #getSchematicBiome(int, int)}
+     */
+    @Deprecated(forRemoval = true, since = "6.8.0")
     public HashMap<Integer, BiomeType> G_SCH_B;
     public int SCHEM_Y;
+    // Schematic columns and biomes indexed by x * SIZE + z, sharing their block instances through the palette
+    private BaseBlock[][] schematicColumns = new BaseBlock[0][];
+    private BiomeType[] schematicBiomes = new BiomeType[0];
+    private Map<BaseBlock, BaseBlock> schematicPalette = new HashMap<>();
+    private final Map<Integer, ChunkTemplate> chunkTemplates = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Integer, ChunkTemplate> eldest) {
+            return size() > MAX_CHUNK_TEMPLATES;
+        }
+    });
     private Location SIGN_LOCATION;
     private File root = null;
     private int lastOverlayHeightError = Integer.MIN_VALUE;
@@ -210,6 +233,20 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         }
     }
 
+    /**
+     * Get the cached template for chunks at the given position relative to the plot grid
+     *
+     * @param key paired relative x and z offset of the chunk
+     * @return the template, or {@code null} if it has not been generated yet
+     */
+    @Nullable ChunkTemplate getChunkTemplate(int key) {
+        return this.chunkTemplates.get(key);
+    }
+
+    void putChunkTemplate(int key, @NonNull ChunkTemplate template) {
+        this.chunkTemplates.put(key, template);
+    }
+
     @Override
     public boolean isCompatible(final @NonNull PlotArea plotArea) {
         if (!(plotArea instanceof SquarePlotWorld)) {
@@ -221,6 +258,10 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     public void setupSchematics() throws SchematicHandler.UnsupportedFormatException {
         this.G_SCH = new HashMap<>();
         this.G_SCH_B = new HashMap<>();
+        this.schematicColumns = new BaseBlock[this.SIZE * this.SIZE][];
+        this.schematicBiomes = new BiomeType[this.SIZE * this.SIZE];
+        this.schematicPalette = new HashMap<>();
+        this.chunkTemplates.clear();
 
         // Try to determine root. This means that plot areas can have separate schematic
         // directories
@@ -426,11 +467,18 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         } else if (x >= this.SIZE) {
             x -= this.SIZE;
         }
+        if (x < 0 || x >= this.SIZE || z < 0 || z >= this.SIZE) {
+            return;
+        }
         if (rotate) {
             id = rotate(id);
         }
-        int pair = MathMan.pair(x, z);
-        BaseBlock[] existing = this.G_SCH.computeIfAbsent(pair, k -> new BaseBlock[height]);
+        final int index = x * this.SIZE + z;
+        BaseBlock[] existing = this.schematicColumns[index];
+        if (existing == null) {
+            this.schematicColumns[index] = existing = new BaseBlock[height];
+            this.G_SCH.put(MathMan.pair(x, z), existing);
+        }
         if (y >= height) {
             if (y != lastOverlayHeightError) {
                 lastOverlayHeightError = y;
@@ -438,7 +486,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
             }
             return;
         }
-        existing[y] = id;
+        existing[y] = this.schematicPalette.computeIfAbsent(id, k -> k);
     }
 
     public void addOverlayBiome(short x, short z, BiomeType id) {
@@ -452,8 +500,36 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         } else if (x >= this.SIZE) {
             x -= this.SIZE;
         }
-        int pair = MathMan.pair(x, z);
-        this.G_SCH_B.put(pair, id);
+        if (x < 0 || x >= this.SIZE || z < 0 || z >= this.SIZE) {
+            return;
+        }
+        this.schematicBiomes[x * this.SIZE + z] = id;
+        this.G_SCH_B.put(MathMan.pair(x, z), id);
+    }
+
+    /**
+     * Get the blocks the road and plot schematics place in a column, indexed by the height above the schematic start height.
+     * Entries without a schematic block are {@code null}.
+     *
+     * @param x x coordinate relative to the plot grid, from 0 (inclusive) to {@link #SIZE} (exclusive)
+     * @param z z coordinate relative to the plot grid, from 0 (inclusive) to {@link #SIZE} (exclusive)
+     * @return the column's blocks, or {@code null} if the schematics place no blocks in the column
+     * @since 6.8.0
+     */
+    public @Nullable BaseBlock[] getSchematicColumn(int x, int z) {
+        return this.schematicColumns[x * this.SIZE + z];
+    }
+
+    /**
+     * Get the biome the road and plot schematics set in a column
+     *
+     * @param x x coordinate relative to the plot grid, from 0 (inclusive) to {@link #SIZE} (exclusive)
+     * @param z z coordinate relative to the plot grid, from 0 (inclusive) to {@link #SIZE} (exclusive)
+     * @return the column's biome, or {@code null} if the schematics set no biome in the column
+     * @since 6.8.0
+     */
+    public @Nullable BiomeType getSchematicBiome(int x, int z) {
+        return this.schematicBiomes[x * this.SIZE + z];
     }
 
     public File getRoot() {
@@ -37,13 +37,14 @@ import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.plot.PlotManager;
 import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.AnalysisFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
-import com.plotsquared.core.queue.ChunkQueueCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.util.ChunkManager;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.MathMan;
@@ -60,7 +61,6 @@ import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
-import com.sk89q.worldedit.world.block.BlockType;
 import com.sk89q.worldedit.world.block.BlockTypes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -76,7 +76,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -135,183 +138,68 @@ public class HybridUtils {
          *  - recheck each block
          *
          */
-        TaskManager.runTaskAsync(() -> {
-            final BlockVector3 bot = region.getMinimumPoint();
-            final BlockVector3 top = region.getMaximumPoint();
-
-            final int bx = bot.getX();
-            final int bz = bot.getZ();
-            final int tx = top.getX();
-            final int tz = top.getZ();
-            final int cbx = bx >> 4;
-            final int cbz = bz >> 4;
-            final int ctx = tx >> 4;
-            final int ctz = tz >> 4;
-            final int width = tx - bx + 1;
-            final int length = tz - bz + 1;
-            final int height = area.getMaxGenHeight() - area.getMinGenHeight() + 1;
-            final int minHeight = area.getMinGenHeight();
-
-            final PlotArea area = this.plotAreaManager.getPlotArea(world, null);
-
-            if (!(area instanceof HybridPlotWorld hpw)) {
-                return;
-            }
-
-            ChunkQueueCoordinator chunk = new ChunkQueueCoordinator(worldUtil.getWeWorld(world), bot, top, false);
-            hpw.getGenerator().generateChunk(chunk, hpw);
-
+        final PlotArea area = this.plotAreaManager.getPlotArea(world, null);
+        if (!(area instanceof HybridPlotWorld)) {
+            return;
+        }
+        final BlockVector3 bot = region.getMinimumPoint();
+        final BlockVector3 top = region.getMaximumPoint();
+        final RegionAnalyzer analyzer = new RegionAnalyzer(
+                bot.getX(),
+                bot.getZ(),
+                top.getX() - bot.getX() + 1,
+                top.getZ() - bot.getZ() + 1,
+                area.getMinGenHeight(),
+                area.getMaxGenHeight() - area.getMinGenHeight() + 1
+        );
+        // Blocks are read as the chunks load and each chunk is analysed on its own in the common fork-join pool
+        final Queue<CompletableFuture<Void>> chunkAnalyses = new ConcurrentLinkedQueue<>();
+        final QueueCoordinator queue = area.getQueue();
+        queue.addReadChunks(region.getChunks());
+        queue.setChunkConsumer(blockVector2 -> {
+            final int chunkX = blockVector2.getX();
+            final int chunkZ = blockVector2.getZ();
+            final int minX = analyzer.getMinX(chunkX);
+            final int maxX = analyzer.getMaxX(chunkX);
+            final int minZ = analyzer.getMinZ(chunkZ);
+            final int maxZ = analyzer.getMaxZ(chunkZ);
+            final int minY = analyzer.getMinHeight();
+            final int height = analyzer.getHeight();
             final BlockState airBlock = BlockTypes.AIR.getDefaultState();
-            final BlockState[][][] oldBlocks = chunk.getBlocks();
-            final BlockState[][][] newBlocks = new BlockState[height][width][length];
-            for (final BlockState[][] newBlock : newBlocks) {
-                for (final BlockState[] blockStates : newBlock) {
-                    Arrays.fill(blockStates, airBlock);
-                }
-            }
-            for (final BlockState[][] oldBlock : oldBlocks) {
-                for (final BlockState[] blockStates : oldBlock) {
-                    Arrays.fill(blockStates, airBlock);
-                }
-            }
-
-            System.gc();
-            System.gc();
-
-            QueueCoordinator queue = area.getQueue();
-            queue.addReadChunks(region.getChunks());
-            queue.setChunkConsumer(blockVector2 -> {
-                int X = blockVector2.getX();
-                int Z = blockVector2.getZ();
-                int minX;
-                if (X == cbx) {
-                    minX = bx & 15;
-                } else {
-                    minX = 0;
-                }
-                int minZ;
-                if (Z == cbz) {
-                    minZ = bz & 15;
-                } else {
-                    minZ = 0;
-                }
-                int maxX;
-                if (X == ctx) {
-                    maxX = tx & 15;
-                } else {
-                    maxX = 16;
-                }
-                int maxZ;
-                if (Z == ctz) {
-                    maxZ = tz & 15;
-                } else {
-                    maxZ = 16;
-                }
-
-                int chunkBlockX = X << 4;
-                int chunkBlockZ = Z << 4;
-
-                int xb = chunkBlockX - bx;
-                int zb = chunkBlockZ - bz;
-                for (int x = minX; x <= maxX; x++) {
-                    int xx = chunkBlockX + x;
-                    for (int z = minZ; z <= maxZ; z++) {
-                        int zz = chunkBlockZ + z;
-                        for (int yIndex = 0; yIndex < height; yIndex++) {
-                            int y = yIndex + minHeight;
-                            BlockState block = queue.getBlock(xx, y, zz);
-                            int xr = xb + x;
-                            int zr = zb + z;
-                            newBlocks[yIndex][xr][zr] = block;
-                        }
+            final BlockState[] blocks = new BlockState[(maxX - minX + 1) * (maxZ - minZ + 1) * height];
+            int i = 0;
+            for (int yIndex = 0; yIndex < height; yIndex++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        final BlockState block = queue.getBlock((chunkX << 4) + x, minY + yIndex, (chunkZ << 4) + z);
+                        blocks[i++] = block == null ? airBlock : block;
                     }
                 }
-            });
-
-            final Runnable run = () -> TaskManager.runTaskAsync(() -> {
-                int size = width * length;
-                int[] changes = new int[size];
-                int[] faces = new int[size];
-                int[] data = new int[size];
-                int[] air = new int[size];
-                int[] variety = new int[size];
-                int i = 0;
-                for (int x = 0; x < width; x++) {
-                    for (int z = 0; z < length; z++) {
-                        Set<BlockType> types = new HashSet<>();
-                        for (int yIndex = 0; yIndex < height; yIndex++) {
-                            BlockState old = oldBlocks[yIndex][x][z];
-                            try {
-                                BlockState now = newBlocks[yIndex][x][z];
-                                if (!old.equals(now)) {
-                                    changes[i]++;
-                                }
-                                if (now.getBlockType().getMaterial().isAir()) {
-                                    air[i]++;
-                                } else {
-                                    // check vertices
-                                    // modifications_adjacent
-                                    if (x > 0 && z > 0 && yIndex > 0 && x < width - 1 && z < length - 1 && yIndex < (height - 1)) {
-                                        if (newBlocks[yIndex - 1][x][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[yIndex][x - 1][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[yIndex][x][z - 1].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[yIndex + 1][x][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[yIndex][x + 1][z].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                        if (newBlocks[yIndex][x][z + 1].getBlockType().getMaterial().isAir()) {
-                                            faces[i]++;
-                                        }
-                                    }
-
-                                    if (!now.equals(now.getBlockType().getDefaultState())) {
-                                        data[i]++;
-                                    }
-                                    types.add(now.getBlockType());
-                                }
-                            } catch (NullPointerException e) {
-                                e.printStackTrace();
-                            }
-                        }
-                        variety[i] = types.size();
-                        i++;
-                    }
-                }
-                // analyze plot
-                // put in analysis obj
-
-                // run whenDone
-                PlotAnalysis analysis = new PlotAnalysis();
-                analysis.changes = (int) (MathMan.getMean(changes) * 100);
-                analysis.faces = (int) (MathMan.getMean(faces) * 100);
-                analysis.data = (int) (MathMan.getMean(data) * 100);
-                analysis.air = (int) (MathMan.getMean(air) * 100);
-                analysis.variety = (int) (MathMan.getMean(variety) * 100);
-
-                analysis.changes_sd = (int) (MathMan.getSD(changes, analysis.changes) * 100);
-                analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
-                analysis.data_sd = (int) (MathMan.getSD(data, analysis.data) * 100);
-                analysis.air_sd = (int) (MathMan.getSD(air, analysis.air) * 100);
-                analysis.variety_sd = (int) (MathMan.getSD(variety, analysis.variety) * 100);
-                System.gc();
-                System.gc();
-                whenDone.value = analysis;
-                whenDone.run();
-            });
-            queue.setCompleteTask(run);
-            queue.enqueue();
+            }
+            chunkAnalyses.add(CompletableFuture.runAsync(() -> analyzer.analyzeChunk(chunkX, chunkZ, blocks)));
         });
+        queue.setCompleteTask(() -> CompletableFuture
+                .allOf(chunkAnalyses.toArray(new CompletableFuture[0]))
+                .whenCompleteAsync((ignored, throwable) -> {
+                    if (throwable != null) {
+                        LOGGER.error("Failed to analyze region {} in world {}", region, world, throwable);
+                        whenDone.value = null;
+                    } else {
+                        whenDone.value = analyzer.finish();
+                    }
+                    whenDone.run();
+                }));
+        queue.enqueue();
     }
 
     public void analyzePlot(final Plot origin, final RunnableVal<PlotAnalysis> whenDone) {
+        final PlotAnalysis cached = PlotAnalysisCache.get(origin);
+        if (cached != null) {
+            whenDone.value = cached;
+            TaskManager.runTask(whenDone);
+            return;
+        }
+        final long version = PlotAnalysisCache.getVersion(origin);
         final ArrayDeque<CuboidRegion> zones = new ArrayDeque<>(origin.getRegions());
         final ArrayList<PlotAnalysis> analysis = new ArrayList<>();
         Runnable run = new Runnable() {
@@ -357,6 +245,7 @@ public class HybridUtils {
                     result.add(whenDone.value.data_sd);
                     result.add(whenDone.value.air_sd);
                     result.add(whenDone.value.variety_sd);
+                    PlotAnalysisCache.put(origin, version, whenDone.value);
                     PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance().getFlag(AnalysisFlag.class).createFlagInstance(
                             result);
                     PlotFlagAddEvent event = eventDispatcher.callFlagAdd(plotFlag, origin);
@@ -372,6 +261,12 @@ public class HybridUtils {
                 analyzeRegion(origin.getWorldName(), region, new RunnableVal<>() {
                     @Override
                     public void run(PlotAnalysis value) {
+                        if (value == null) {
+                            // The region could not be analysed, so neither can the plot
+                            whenDone.value = null;
+                            TaskManager.runTask(whenDone);
+                            return;
+                        }
                         analysis.add(value);
                         TaskManager.runTaskLater(task, TaskTime.ticks(1L));
                     }
@@ -446,6 +341,7 @@ public class HybridUtils {
                 if (!UPDATE) {
                     Iterator<BlockVector2> iter = chunks.iterator();
                     QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
+                    queue.setPriority(QueuePriority.LOW);
                     while (iter.hasNext()) {
                         BlockVector2 chunk = iter.next();
                         iter.remove();
@@ -488,6 +384,7 @@ public class HybridUtils {
                                     Iterator<BlockVector2> iterator = chunks.iterator();
                                     if (chunks.size() >= 32) {
                                         QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
+                                        queue.setPriority(QueuePriority.LOW);
                                         for (int i = 0; i < 32; i++) {
                                             final BlockVector2 chunk = iterator.next();
                                             iterator.remove();
@@ -501,6 +398,7 @@ public class HybridUtils {
                                         return null;
                                     }
                                     QueueCoordinator queue = blockQueue.getNewQueue(worldUtil.getWeWorld(area.getWorldName()));
+                                    queue.setPriority(QueuePriority.LOW);
                                     while (!chunks.isEmpty()) {
                                         final BlockVector2 chunk = iterator.next();
                                         iterator.remove();
@@ -699,11 +597,12 @@ public class HybridUtils {
                         condition = !gx || !gz || !lx || !lz;
                     }
                     if (condition) {
-                        BaseBlock[] blocks = plotWorld.G_SCH.get(MathMan.pair(absX, absZ));
+                        BaseBlock[] blocks = plotWorld.getSchematicColumn(absX, absZ);
+                        int height = blocks == null ? 0 : blocks.length;
                         int minY = Settings.Schematics.PASTE_ROAD_ON_TOP ? plotWorld.SCHEM_Y : area.getMinGenHeight() + 1;
-                        int maxDy = Math.max(extend, blocks.length);
+                        int maxDy = Math.max(extend, height);
                         for (int dy = 0; dy < maxDy; dy++) {
-                            if (dy > blocks.length - 1) {
+                            if (dy > height - 1) {
                                 queue.setBlock(
                                         finalX + X + plotWorld.ROAD_OFFSET_X,
                                         minY + dy,
@@ -729,7 +628,7 @@ public class HybridUtils {
                                 }
                             }
                         }
-                        BiomeType biome = plotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                        BiomeType biome = plotWorld.getSchematicBiome(absX, absZ);
                         if (biome != null) {
                             queue.setBiome(finalX + X + plotWorld.ROAD_OFFSET_X, finalZ + Z + plotWorld.ROAD_OFFSET_Z, biome);
                         } else {
@@ -0,0 +1,346 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.plotsquared.core.util.MathMan;
+import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.block.BlockType;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Computes a {@link PlotAnalysis} for a region one chunk at a time. Each chunk is analysed independently and only keeps
+ * its per-column statistics and the air at its borders, which are combined with the neighbouring chunks once all chunks
+ * have been analysed. Chunks may be analysed concurrently.
+ */
+final class RegionAnalyzer {
+
+    // Blocks are analysed as their type index within the chunk, shifted by TYPE_SHIFT, combined with these flags
+    static final int AIR = 1;
+    static final int CHANGED = 1 << 1;
+    static final int DATA = 1 << 2;
+    static final int TYPE_SHIFT = 3;
+
+    private final int bx;
+    private final int bz;
+    private final int width;
+    private final int length;
+    private final int minHeight;
+    private final int height;
+    // Statistics per column of the region, indexed by x * length + z. Every column is written by a single chunk
+    private final int[] changes;
+    private final int[] faces;
+    private final int[] data;
+    private final int[] air;
+    private final int[] variety;
+    private final Map<Long, ChunkBorders> borders = new ConcurrentHashMap<>();
+
+    /**
+     * @param bx        minimum x coordinate of the region
+     * @param bz        minimum z coordinate of the region
+     * @param width     width of the region along the x axis
+     * @param length    length of the region along the z axis
+     * @param minHeight minimum y coordinate to analyse
+     * @param height    amount of layers to analyse
+     */
+    RegionAnalyzer(int bx, int bz, int width, int length, int minHeight, int height) {
+        this.bx = bx;
+        this.bz = bz;
+        this.width = width;
+        this.length = length;
+        this.minHeight = minHeight;
+        this.height = height;
+        final int size = width * length;
+        this.changes = new int[size];
+        this.faces = new int[size];
+        this.data = new int[size];
+        this.air = new int[size];
+        this.variety = new int[size];
+    }
+
+    /**
+     * Get the x coordinate of the first column of the region within the given chunk
+     */
+    int getMinX(int chunkX) {
+        return Math.max(chunkX << 4, this.bx) & 15;
+    }
+
+    int getMaxX(int chunkX) {
+        return Math.min((chunkX << 4) + 15, this.bx + this.width - 1) & 15;
+    }
+
+    int getMinZ(int chunkZ) {
+        return Math.max(chunkZ << 4, this.bz) & 15;
+    }
+
+    int getMaxZ(int chunkZ) {
+        return Math.min((chunkZ << 4) + 15, this.bz + this.length - 1) & 15;
+    }
+
+    int getMinHeight() {
+        return this.minHeight;
+    }
+
+    int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Analyse the part of the region within a chunk
+     *
+     * @param chunkX chunk x coordinate
+     * @param chunkZ chunk z coordinate
+     * @param blocks blocks of the chunk within the region, indexed by
+     *               {@code ((yIndex * (maxZ - minZ + 1)) + (z - minZ)) * (maxX - minX + 1) + (x - minX)}
+     */
+    void analyzeChunk(int chunkX, int chunkZ, @NonNull BlockState[] blocks) {
+        final BlockState airState = BlockTypes.AIR.getDefaultState();
+        final Map<BlockType, Integer> types = new HashMap<>();
+        final int[] encoded = new int[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            final BlockState block = blocks[i];
+            final BlockType type = block.getBlockType();
+            final int index = types.computeIfAbsent(type, key -> types.size());
+            final boolean data = !block.equals(type.getDefaultState());
+            encoded[i] = encode(index, type.getMaterial().isAir(), !airState.equals(block), data);
+        }
+        analyzeChunk(chunkX, chunkZ, encoded);
+    }
+
+    /**
+     * Analyse the part of the region within a chunk, given the {@link #encode(int, boolean, boolean, boolean) encoded}
+     * blocks in the same order as {@link #analyzeChunk(int, int, BlockState[])}
+     */
+    void analyzeChunk(int chunkX, int chunkZ, int[] blocks) {
+        final int minX = getMinX(chunkX);
+        final int maxX = getMaxX(chunkX);
+        final int minZ = getMinZ(chunkZ);
+        final int maxZ = getMaxZ(chunkZ);
+        final int sizeX = maxX - minX + 1;
+        final int sizeZ = maxZ - minZ + 1;
+        final int xOffset = (chunkX << 4) + minX - this.bx;
+        final int zOffset = (chunkZ << 4) + minZ - this.bz;
+        final ChunkBorders chunkBorders = new ChunkBorders(sizeX, sizeZ, this.height);
+        for (int x = 0; x < sizeX; x++) {
+            final int xr = xOffset + x;
+            for (int z = 0; z < sizeZ; z++) {
+                final int zr = zOffset + z;
+                final int i = xr * this.length + zr;
+                final Set<Integer> types = new HashSet<>();
+                for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                    final int now = blocks[(yIndex * sizeZ + z) * sizeX + x];
+                    final boolean isAir = isAir(now);
+                    if (isAir) {
+                        chunkBorders.setAir(x, z, yIndex);
+                    }
+                    if ((now & CHANGED) != 0) {
+                        this.changes[i]++;
+                    }
+                    if (isAir) {
+                        this.air[i]++;
+                        continue;
+                    }
+                    // Faces towards neighbours in other chunks are counted once all chunks have been analysed
+                    if (hasAllNeighbours(xr, zr, yIndex)) {
+                        if (isAir(blocks[((yIndex - 1) * sizeZ + z) * sizeX + x])) {
+                            this.faces[i]++;
+                        }
+                        if (isAir(blocks[((yIndex + 1) * sizeZ + z) * sizeX + x])) {
+                            this.faces[i]++;
+                        }
+                        if (x > 0 && isAir(blocks[(yIndex * sizeZ + z) * sizeX + x - 1])) {
+                            this.faces[i]++;
+                        }
+                        if (x < sizeX - 1 && isAir(blocks[(yIndex * sizeZ + z) * sizeX + x + 1])) {
+                            this.faces[i]++;
+                        }
+                        if (z > 0 && isAir(blocks[(yIndex * sizeZ + z - 1) * sizeX + x])) {
+                            this.faces[i]++;
+                        }
+                        if (z < sizeZ - 1 && isAir(blocks[(yIndex * sizeZ + z + 1) * sizeX + x])) {
+                            this.faces[i]++;
+                        }
+                    }
+                    if ((now & DATA) != 0) {
+                        this.data[i]++;
+                    }
+                    types.add(now >>> TYPE_SHIFT);
+                }
+                this.variety[i] = types.size();
+            }
+        }
+        this.borders.put(key(chunkX, chunkZ), chunkBorders);
+    }
+
+    /**
+     * Count the faces between neighbouring chunks and create the analysis. Must only be called once all chunks have been
+     * analysed.
+     *
+     * @return analysis of the region
+     */
+    @NonNull PlotAnalysis finish() {
+        for (final Map.Entry<Long, ChunkBorders> entry : this.borders.entrySet()) {
+            final int chunkX = (int) (entry.getKey() >> 32);
+            final int chunkZ = (int) (long) entry.getKey();
+            final ChunkBorders chunk = entry.getValue();
+            final ChunkBorders east = this.borders.get(key(chunkX + 1, chunkZ));
+            if (east != null) {
+                final int xr = (chunkX << 4) + 15 - this.bx;
+                final int zOffset = (chunkZ << 4) + getMinZ(chunkZ) - this.bz;
+                for (int z = 0; z < chunk.sizeZ; z++) {
+                    for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                        final boolean blockIsAir = chunk.isAir(chunk.sizeX - 1, z, yIndex);
+                        final boolean neighbourIsAir = east.isAir(0, z, yIndex);
+                        countFace(xr, zOffset + z, yIndex, blockIsAir, neighbourIsAir);
+                        countFace(xr + 1, zOffset + z, yIndex, neighbourIsAir, blockIsAir);
+                    }
+                }
+            }
+            final ChunkBorders south = this.borders.get(key(chunkX, chunkZ + 1));
+            if (south != null) {
+                final int zr = (chunkZ << 4) + 15 - this.bz;
+                final int xOffset = (chunkX << 4) + getMinX(chunkX) - this.bx;
+                for (int x = 0; x < chunk.sizeX; x++) {
+                    for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                        final boolean blockIsAir = chunk.isAir(x, chunk.sizeZ - 1, yIndex);
+                        final boolean neighbourIsAir = south.isAir(x, 0, yIndex);
+                        countFace(xOffset + x, zr, yIndex, blockIsAir, neighbourIsAir);
+                        countFace(xOffset + x, zr + 1, yIndex, neighbourIsAir, blockIsAir);
+                    }
+                }
+            }
+        }
+        PlotAnalysis analysis = new PlotAnalysis();
+        analysis.changes = (int) (MathMan.getMean(this.changes) * 100);
+        analysis.faces = (int) (MathMan.getMean(this.faces) * 100);
+        analysis.data = (int) (MathMan.getMean(this.data) * 100);
+        analysis.air = (int) (MathMan.getMean(this.air) * 100);
+        analysis.variety = (int) (MathMan.getMean(this.variety) * 100);
+
+        analysis.changes_sd = (int) (MathMan.getSD(this.changes, analysis.changes) * 100);
+        analysis.faces_sd = (int) (MathMan.getSD(this.faces, analysis.faces) * 100);
+        analysis.data_sd = (int) (MathMan.getSD(this.data, analysis.data) * 100);
+        analysis.air_sd = (int) (MathMan.getSD(this.air, analysis.air) * 100);
+        analysis.variety_sd = (int) (MathMan.getSD(this.variety, analysis.variety) * 100);
+        return analysis;
+    }
+
+    private void countFace(int xr, int zr, int yIndex, boolean blockIsAir, boolean neighbourIsAir) {
+        if (!blockIsAir && neighbourIsAir && hasAllNeighbours(xr, zr, yIndex)) {
+            this.faces[xr * this.length + zr]++;
+        }
+    }
+
+    /**
+     * Faces are only counted for blocks that are not at the border of the region
+     */
+    private boolean hasAllNeighbours(int xr, int zr, int yIndex) {
+        return xr > 0 && zr > 0 && yIndex > 0 && xr < this.width - 1 && zr < this.length - 1 && yIndex < this.height - 1;
+    }
+
+    /**
+     * Encode a block for {@link #analyzeChunk(int, int, int[])}
+     *
+     * @param type    index of the block type, equal for blocks of the same type within a chunk
+     * @param air     whether the block type is air
+     * @param changed whether the block is not the default state of air
+     * @param data    whether the block is not the default state of its type
+     * @return encoded block
+     */
+    static int encode(int type, boolean air, boolean changed, boolean data) {
+        return type << TYPE_SHIFT | (air ? AIR : 0) | (changed ? CHANGED : 0) | (data ? DATA : 0);
+    }
+
+    private static boolean isAir(int block) {
+        return (block & AIR) != 0;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Air at the four sides of the part of the region within a chunk
+     */
+    private static final class ChunkBorders {
+
+        private final int sizeX;
+        private final int sizeZ;
+        private final boolean[] west;
+        private final boolean[] east;
+        private final boolean[] north;
+        private final boolean[] south;
+
+        private ChunkBorders(int sizeX, int sizeZ, int height) {
+            this.sizeX = sizeX;
+            this.sizeZ = sizeZ;
+            this.west = new boolean[sizeZ * height];
+            this.east = new boolean[sizeZ * height];
+            this.north = new boolean[sizeX * height];
+            this.south = new boolean[sizeX * height];
+        }
+
+        private void setAir(int x, int z, int yIndex) {
+            if (x == 0) {
+                this.west[yIndex * this.sizeZ + z] = true;
+            }
+            if (x == this.sizeX - 1) {
+                this.east[yIndex * this.sizeZ + z] = true;
+            }
+            if (z == 0) {
+                this.north[yIndex * this.sizeX + x] = true;
+            }
+            if (z == this.sizeZ - 1) {
+                this.south[yIndex * this.sizeX + x] = true;
+            }
+        }
+
+        /**
+         * Only valid for blocks at the sides of the chunk part
+         */
+        private boolean isAir(int x, int z, int yIndex) {
+            if (x == 0) {
+                return this.west[yIndex * this.sizeZ + z];
+            }
+            if (x == this.sizeX - 1) {
+                return this.east[yIndex * this.sizeZ + z];
+            }
+            if (z == 0) {
+                return this.north[yIndex * this.sizeX + x];
+            }
+            return this.south[yIndex * this.sizeX + x];
+        }
+
+    }
+
+}
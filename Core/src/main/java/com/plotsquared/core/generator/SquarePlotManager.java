@@ -32,7 +32,6 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
-import com.plotsquared.core.util.HashUtil;
 import com.plotsquared.core.util.RegionManager;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import org.apache.logging.log4j.LogManager;
@@ -50,6 +49,9 @@ public abstract class SquarePlotManager extends GridPlotManager {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + SquarePlotManager.class.getSimpleName());
 
+    // Packed id of the position of no plot, as no plot area reaches the minimum id
+    private static final long NO_PLOT = Long.MIN_VALUE;
+
     private final SquarePlotWorld squarePlotWorld;
     private final RegionManager regionManager;
 
@@ -170,6 +172,25 @@ public abstract class SquarePlotManager extends GridPlotManager {
 
     @Override
     public PlotId getPlotId(int x, int y, int z) {
+        final long id = getPackedPlotId(x, z);
+        return id == NO_PLOT ? null : PlotId.unpack(id);
+    }
+
+    @Override
+    public @Nullable Plot getOwnedPlotAbs(int x, int y, int z) {
+        final long id = getPackedPlotId(x, z);
+        return id == NO_PLOT ? null : squarePlotWorld.getOwnedPlotAbsByPackedId(id);
+    }
+
+    /**
+     * Get the ID of the plot at a position, packed with {@link PlotId#pack(int, int)}. Roads only belong
+     * to a plot if it is merged across them.
+     *
+     * @param x block x coordinate
+     * @param z block z coordinate
+     * @return the packed plot ID or {@link #NO_PLOT}
+     */
+    private long getPackedPlotId(int x, int z) {
         try {
             x -= squarePlotWorld.ROAD_OFFSET_X;
             z -= squarePlotWorld.ROAD_OFFSET_Z;
@@ -205,48 +226,48 @@ public abstract class SquarePlotManager extends GridPlotManager {
                 dz = (z / size) + 1;
                 rz = z % size;
             }
-            PlotId id = PlotId.of(dx, dz);
-            boolean[] merged = new boolean[]{rz <= pathWidthLower, rx > end, rz > end, rx <= pathWidthLower};
-            int hash = HashUtil.hash(merged);
+            long id = PlotId.pack(dx, dz);
+            // Same bits as HashUtil#hash(boolean[]) for {north, east, south, west}
+            int hash = (rz <= pathWidthLower ? 8 : 0) | (rx > end ? 4 : 0) | (rz > end ? 2 : 0) | (rx <= pathWidthLower ? 1 : 0);
             // Not merged, and no need to check if it is
             if (hash == 0) {
                 return id;
             }
-            Plot plot = squarePlotWorld.getOwnedPlotAbs(id);
+            Plot plot = squarePlotWorld.getOwnedPlotAbsByPackedId(id);
             // Not merged, and standing on road
             if (plot == null) {
-                return null;
+                return NO_PLOT;
             }
             switch (hash) {
                 case 8:
                     // north
-                    return plot.isMerged(Direction.NORTH) ? id : null;
+                    return plot.isMerged(Direction.NORTH) ? id : NO_PLOT;
                 case 4:
                     // east
-                    return plot.isMerged(Direction.EAST) ? id : null;
+                    return plot.isMerged(Direction.EAST) ? id : NO_PLOT;
                 case 2:
                     // south
-                    return plot.isMerged(Direction.SOUTH) ? id : null;
+                    return plot.isMerged(Direction.SOUTH) ? id : NO_PLOT;
                 case 1:
                     // west
-                    return plot.isMerged(Direction.WEST) ? id : null;
+                    return plot.isMerged(Direction.WEST) ? id : NO_PLOT;
                 case 12:
                     // northeast
-                    return plot.isMerged(Direction.NORTHEAST) ? id : null;
+                    return plot.isMerged(Direction.NORTHEAST) ? id : NO_PLOT;
                 case 6:
                     // southeast
-                    return plot.isMerged(Direction.SOUTHEAST) ? id : null;
+                    return plot.isMerged(Direction.SOUTHEAST) ? id : NO_PLOT;
                 case 3:
                     // southwest
-                    return plot.isMerged(Direction.SOUTHWEST) ? id : null;
+                    return plot.isMerged(Direction.SOUTHWEST) ? id : NO_PLOT;
                 case 9:
                     // northwest
-                    return plot.isMerged(Direction.NORTHWEST) ? id : null;
+                    return plot.isMerged(Direction.NORTHWEST) ? id : NO_PLOT;
             }
         } catch (Exception ignored) {
             LOGGER.error("Invalid plot / road width in settings.yml for world: {}", squarePlotWorld.getWorldName());
         }
-        return null;
+        return NO_PLOT;
     }
 
     /**
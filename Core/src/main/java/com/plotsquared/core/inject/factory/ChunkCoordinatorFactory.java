@@ -26,6 +26,7 @@
 package com.plotsquared.core.inject.factory;
 
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.QueuePriority;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.world.World;
@@ -45,7 +46,8 @@ public interface ChunkCoordinatorFactory {
             final @NonNull Runnable whenDone,
             final @NonNull Consumer<Throwable> throwableConsumer,
             final boolean unloadAfter,
-            final @NonNull Collection<ProgressSubscriber> progressSubscribers
+            final @NonNull Collection<ProgressSubscriber> progressSubscribers,
+            final @NonNull QueuePriority priority
     );
 
 }
@@ -0,0 +1,60 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.listener;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Marks the plots an edit session writes to as modified, once per plot and session
+ */
+final class PlotModificationTracker {
+
+    private final ChunkPlotCache cache;
+    private final Set<Plot> plots = new HashSet<>();
+    private Plot last;
+
+    PlotModificationTracker(final @NonNull String world) {
+        this.cache = ChunkPlotCache.of(world);
+    }
+
+    void track(final int x, final int y, final int z) {
+        final Plot plot = this.cache.getOwnedPlot(x, y, z);
+        if (plot == null || plot == this.last) {
+            return;
+        }
+        this.last = plot;
+        if (this.plots.add(plot)) {
+            PlotAnalysisCache.markModified(plot);
+        }
+    }
+
+}
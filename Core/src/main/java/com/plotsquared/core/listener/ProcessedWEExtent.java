@@ -56,6 +56,7 @@ public class ProcessedWEExtent extends AbstractDelegateExtent {
     private final int max;
     private final WorldUtil worldUtil;
     private final Map<Long, Integer[]> tileEntityCount = new HashMap<>();
+    private final PlotModificationTracker modified;
     int Ecount = 0;
     boolean Eblocked = false;
     private int count;
@@ -73,6 +74,7 @@ public class ProcessedWEExtent extends AbstractDelegateExtent {
         this.mask = mask;
         this.world = world;
         this.worldUtil = worldUtil;
+        this.modified = new PlotModificationTracker(world);
         if (max == -1) {
             max = Integer.MAX_VALUE;
         }
@@ -135,6 +137,7 @@ public class ProcessedWEExtent extends AbstractDelegateExtent {
                 }
                 return false;
             }
+            this.modified.track(location.getX(), location.getY(), location.getZ());
             return super.setBlock(location, block);
         }
 
@@ -40,6 +40,7 @@ import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
 import com.sk89q.worldedit.world.block.BlockStateHolder;
 import com.sk89q.worldedit.world.block.BlockTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Set;
 
@@ -48,18 +49,39 @@ public class WEExtent extends AbstractDelegateExtent {
     public static BlockState AIRSTATE = BlockTypes.AIR.getDefaultState();
     public static BaseBlock AIRBASE = BlockTypes.AIR.getDefaultState().toBaseBlock();
     private final Set<CuboidRegion> mask;
+    private final PlotModificationTracker modified;
 
     public WEExtent(Set<CuboidRegion> mask, Extent extent) {
         super(extent);
         this.mask = mask;
+        this.modified = null;
+    }
+
+    /**
+     * Create an extent limited to the mask that marks the plots it writes to as modified
+     *
+     * @param world  world name
+     * @param mask   regions the extent may write to
+     * @param extent extent to write to
+     * @since 6.8.0
+     */
+    public WEExtent(@NonNull String world, Set<CuboidRegion> mask, Extent extent) {
+        super(extent);
+        this.mask = mask;
+        this.modified = new PlotModificationTracker(world);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public boolean setBlock(BlockVector3 location, BlockStateHolder block)
             throws WorldEditException {
-        return WEManager.maskContains(this.mask, location.getX(), location.getY(), location.getZ())
-                && super.setBlock(location, block);
+        if (!WEManager.maskContains(this.mask, location.getX(), location.getY(), location.getZ())) {
+            return false;
+        }
+        if (this.modified != null) {
+            this.modified.track(location.getX(), location.getY(), location.getZ());
+        }
+        return super.setBlock(location, block);
     }
 
     @Override
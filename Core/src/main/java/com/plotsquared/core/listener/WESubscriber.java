@@ -119,7 +119,7 @@ public class WESubscriber {
                             ));
                 }
             } else if (this.plotAreaManager.hasPlotArea(world)) {
-                event.setExtent(new WEExtent(mask, event.getExtent()));
+                event.setExtent(new WEExtent(world, mask, event.getExtent()));
             }
         }
     }
@@ -88,7 +88,7 @@ public class ConsolePlayer extends PlotPlayer<Actor> {
         } else {
             location = Location.at("", 0, 0, 0);
         }
-        setMeta("location", location);
+        setTemporaryMeta(PlayerMetaDataKeys.TEMPORARY_LOCATION, location);
     }
 
     public static ConsolePlayer getConsole() {
@@ -124,7 +124,7 @@ public class ConsolePlayer extends PlotPlayer<Actor> {
     @NonNull
     @Override
     public Location getLocation() {
-        return this.getMeta("location");
+        return this.getTemporaryMeta(PlayerMetaDataKeys.TEMPORARY_LOCATION);
     }
 
     @Override
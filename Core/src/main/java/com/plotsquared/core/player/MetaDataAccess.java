@@ -46,7 +46,7 @@ public abstract class MetaDataAccess<T> implements AutoCloseable {
     MetaDataAccess(
             final @NonNull PlotPlayer<?> player,
             final @NonNull MetaDataKey<T> metaDataKey,
-            final LockRepository.@NonNull LockAccess lockAccess
+            final LockRepository.@Nullable LockAccess lockAccess
     ) {
         this.player = player;
         this.metaDataKey = metaDataKey;
@@ -91,7 +91,9 @@ public abstract class MetaDataAccess<T> implements AutoCloseable {
 
     @Override
     public final void close() {
-        this.lockAccess.close();
+        if (this.lockAccess != null) {
+            this.lockAccess.close();
+        }
         this.closed = true;
     }
 
@@ -43,15 +43,18 @@ public final class MetaDataKey<T> {
 
     private static final Map<String, MetaDataKey<?>> keyMap = new HashMap<>();
     private static final Object keyMetaData = new Object();
+    private static volatile int slotCount;
 
     private final String key;
     private final TypeLiteral<T> type;
     private final LockKey lockKey;
+    private final int slot;
 
-    private MetaDataKey(final @NonNull String key, final @NonNull TypeLiteral<T> type) {
+    private MetaDataKey(final @NonNull String key, final @NonNull TypeLiteral<T> type, final int slot) {
         this.key = Preconditions.checkNotNull(key, "Key may not be null");
         this.type = Preconditions.checkNotNull(type, "Type may not be null");
         this.lockKey = LockKey.of(this.key);
+        this.slot = slot;
     }
 
     /**
@@ -66,10 +69,40 @@ public final class MetaDataKey<T> {
     public static @NonNull <T> MetaDataKey<T> of(final @NonNull String key, final @NonNull TypeLiteral<T> type) {
         synchronized (keyMetaData) {
             return (MetaDataKey<T>)
-                    keyMap.computeIfAbsent(key, missingKey -> new MetaDataKey<>(missingKey, type));
+                    keyMap.computeIfAbsent(key, missingKey -> new MetaDataKey<>(missingKey, type, -1));
         }
     }
 
+    /**
+     * Get a new named key for temporary meta data that is only modified from the main server thread.
+     * Temporary meta data stored with such a key is kept in a fixed slot of the player and is accessed
+     * without acquiring a lock. Values may still be read from other threads.
+     * <p>
+     * Keys should be created during startup, players created before a key will access it the regular way.
+     *
+     * @param key  Key name
+     * @param type type
+     * @param <T>  Type
+     * @return MetaData key instance
+     * @since 6.8.0
+     */
+    @SuppressWarnings("unchecked")
+    public static @NonNull <T> MetaDataKey<T> ofMainThread(final @NonNull String key, final @NonNull TypeLiteral<T> type) {
+        synchronized (keyMetaData) {
+            return (MetaDataKey<T>)
+                    keyMap.computeIfAbsent(key, missingKey -> new MetaDataKey<>(missingKey, type, slotCount++));
+        }
+    }
+
+    /**
+     * Get the number of keys created through {@link #ofMainThread(String, TypeLiteral)}
+     *
+     * @return number of slots
+     */
+    static int getSlotCount() {
+        return slotCount;
+    }
+
     @Override
     public String toString() {
         return this.key;
@@ -101,6 +134,15 @@ public final class MetaDataKey<T> {
         return this.lockKey;
     }
 
+    /**
+     * Get the slot of the key, or {@code -1} if values stored with it are guarded by a lock
+     *
+     * @return Slot
+     */
+    int getSlot() {
+        return this.slot;
+    }
+
     /**
      * Get the meta data type
      *
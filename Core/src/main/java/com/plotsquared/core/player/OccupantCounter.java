@@ -0,0 +1,70 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.player;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe count of the occupants of each key, which only holds keys with at least one occupant
+ *
+ * @param <K> key type, such as a plot
+ */
+final class OccupantCounter<K> {
+
+    private final Map<K, Integer> occupants = new ConcurrentHashMap<>();
+
+    boolean isOccupied(final @NonNull K key) {
+        return this.occupants.containsKey(key);
+    }
+
+    int getOccupants(final @NonNull K key) {
+        return this.occupants.getOrDefault(key, 0);
+    }
+
+    /**
+     * Move one occupant between two keys. Nothing changes if both keys are equal.
+     *
+     * @param from key the occupant left, or {@code null} if it was not counted
+     * @param to   key the occupant entered, or {@code null} if it is no longer counted
+     */
+    void move(final @Nullable K from, final @Nullable K to) {
+        if (from != null && !from.equals(to)) {
+            this.occupants.computeIfPresent(from, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (to != null && !to.equals(from)) {
+            this.occupants.merge(to, 1, Integer::sum);
+        }
+    }
+
+    int size() {
+        return this.occupants.size();
+    }
+
+}
@@ -43,7 +43,7 @@ public final class PlayerMetaDataKeys {
     public static final MetaDataKey<Integer> PERSISTENT_GRANTED_PLOTS = MetaDataKey.of("grantedPlots", new TypeLiteral<>() {
     });
 
-    public static final MetaDataKey<Plot> TEMPORARY_LAST_PLOT = MetaDataKey.of("lastplot", new TypeLiteral<>() {
+    public static final MetaDataKey<Plot> TEMPORARY_LAST_PLOT = MetaDataKey.ofMainThread("lastplot", new TypeLiteral<>() {
     });
     public static final MetaDataKey<Location> TEMPORARY_MUSIC = MetaDataKey.of("music", new TypeLiteral<>() {
     });
@@ -67,7 +67,7 @@ public final class PlayerMetaDataKeys {
     });
     public static final MetaDataKey<List<String>> TEMPORARY_SCHEMATICS = MetaDataKey.of("plot_schematics", new TypeLiteral<>() {
     });
-    public static final MetaDataKey<Location> TEMPORARY_LOCATION = MetaDataKey.of("location", new TypeLiteral<>() {
+    public static final MetaDataKey<Location> TEMPORARY_LOCATION = MetaDataKey.ofMainThread("location", new TypeLiteral<>() {
     });
     public static final MetaDataKey<CmdInstance> TEMPORARY_CONFIRM = MetaDataKey.of("cmdConfirm", new TypeLiteral<>() {
     });
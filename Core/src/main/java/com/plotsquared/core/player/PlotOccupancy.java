@@ -0,0 +1,71 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.player;
+
+import com.plotsquared.core.plot.Plot;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Counts the online players standing in each plot. The counts follow the
+ * {@link PlayerMetaDataKeys#TEMPORARY_LAST_PLOT last plot} of every player, so they are updated by whatever
+ * code moves a player between plots, and by players leaving the server.
+ *
+ * @since 6.8.0
+ */
+public final class PlotOccupancy {
+
+    private static final OccupantCounter<Plot> OCCUPANTS = new OccupantCounter<>();
+
+    private PlotOccupancy() {
+    }
+
+    /**
+     * Check whether any player is currently standing in a plot. This is the same as checking
+     * {@link PlotPlayer#getCurrentPlot()} of every online player, without iterating over them.
+     *
+     * @param plot plot to check
+     * @return {@code true} if at least one player is in the plot
+     */
+    public static boolean isOccupied(final @NonNull Plot plot) {
+        return OCCUPANTS.isOccupied(plot);
+    }
+
+    /**
+     * Get the number of players currently standing in a plot
+     *
+     * @param plot plot to check
+     * @return number of players in the plot
+     */
+    public static int getOccupants(final @NonNull Plot plot) {
+        return OCCUPANTS.getOccupants(plot);
+    }
+
+    static void move(final @Nullable Object from, final @Nullable Object to) {
+        OCCUPANTS.move(from instanceof Plot plot ? plot : null, to instanceof Plot plot ? plot : null);
+    }
+
+}
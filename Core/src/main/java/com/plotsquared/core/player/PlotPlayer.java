@@ -90,6 +90,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * The abstract class supporting {@code BukkitPlayer} and {@code SpongePlayer}.
@@ -107,6 +108,10 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
     @SuppressWarnings("rawtypes")
     private static final Map<Class<?>, PlotPlayerConverter> converters = new HashMap<>();
     private final LockRepository lockRepository = new LockRepository();
+    /**
+     * Temporary meta data of keys created with {@link MetaDataKey#ofMainThread}
+     */
+    private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>(MetaDataKey.getSlotCount());
     private final PlotAreaManager plotAreaManager;
     private final EventDispatcher eventDispatcher;
     private final PermissionHandler permissionHandler;
@@ -267,6 +272,66 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         return this.meta == null ? null : this.meta.remove(key);
     }
 
+    private boolean hasSlot(final @NonNull MetaDataKey<?> key) {
+        return key.getSlot() >= 0 && key.getSlot() < this.slots.length();
+    }
+
+    /**
+     * Get temporary meta data, either from its slot or from the session meta data
+     *
+     * @param key meta data key
+     * @param <T> meta data type
+     * @return the stored value, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable <T> T getTemporaryMeta(final @NonNull MetaDataKey<T> key) {
+        if (this.hasSlot(key)) {
+            return (T) this.slots.get(key.getSlot());
+        }
+        return this.getMeta(key.toString());
+    }
+
+    /**
+     * Set temporary meta data, either in its slot or in the session meta data
+     *
+     * @param key   meta data key
+     * @param value new value
+     * @param <T>   meta data type
+     */
+    <T> void setTemporaryMeta(final @NonNull MetaDataKey<T> key, final @NonNull T value) {
+        final Object old;
+        if (this.hasSlot(key)) {
+            old = this.slots.getAndSet(key.getSlot(), value);
+        } else {
+            old = this.meta == null ? null : this.meta.get(key.toString());
+            this.setMeta(key.toString(), value);
+        }
+        if (key == PlayerMetaDataKeys.TEMPORARY_LAST_PLOT) {
+            PlotOccupancy.move(old, value);
+        }
+    }
+
+    /**
+     * Remove temporary meta data, either from its slot or from the session meta data
+     *
+     * @param key meta data key
+     * @param <T> meta data type
+     * @return the removed value, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable <T> T removeTemporaryMeta(final @NonNull MetaDataKey<T> key) {
+        final Object old;
+        if (this.hasSlot(key)) {
+            old = this.slots.getAndSet(key.getSlot(), null);
+        } else {
+            old = this.deleteMeta(key.toString());
+        }
+        if (key == PlayerMetaDataKeys.TEMPORARY_LAST_PLOT) {
+            PlotOccupancy.move(old, null);
+        }
+        return (T) old;
+    }
+
     /**
      * This player's name.
      *
@@ -413,7 +478,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
      * @return The location
      */
     public @NonNull Location getLocation() {
-        Location location = getMeta("location");
+        Location location = this.getTemporaryMeta(PlayerMetaDataKeys.TEMPORARY_LOCATION);
         if (location != null) {
             return location;
         }
@@ -619,6 +684,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         if (plot != null) {
             this.eventDispatcher.callLeave(this, plot);
         }
+        this.removeTemporaryMeta(PlayerMetaDataKeys.TEMPORARY_LAST_PLOT);
         if (Settings.Enabled_Components.BAN_DELETER && isBanned()) {
             for (Plot owned : getPlots()) {
                 owned.getPlotModificationManager().deletePlot(null, null);
@@ -793,6 +859,9 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
      * @return Meta data access. MUST be closed after being used
      */
     public @NonNull <T> MetaDataAccess<T> accessTemporaryMetaData(final @NonNull MetaDataKey<T> key) {
+        if (this.hasSlot(key)) {
+            return new TemporaryMetaDataAccess<>(this, key, null);
+        }
         return new TemporaryMetaDataAccess<>(this, key, this.lockRepository.lock(key.getLockKey()));
     }
 
@@ -36,7 +36,7 @@ final class TemporaryMetaDataAccess<T> extends MetaDataAccess<T> {
     TemporaryMetaDataAccess(
             final @NonNull PlotPlayer<?> player,
             final @NonNull MetaDataKey<T> metaDataKey,
-            final LockRepository.@NonNull LockAccess lockAccess
+            final LockRepository.@Nullable LockAccess lockAccess
     ) {
         super(player, metaDataKey, lockAccess);
     }
@@ -44,31 +44,26 @@ final class TemporaryMetaDataAccess<T> extends MetaDataAccess<T> {
     @Override
     public boolean isPresent() {
         this.checkClosed();
-        return this.getPlayer().getMeta(this.getMetaDataKey().toString()) != null;
+        return this.getPlayer().getTemporaryMeta(this.getMetaDataKey()) != null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public @Nullable T remove() {
         this.checkClosed();
-        final Object old = getPlayer().deleteMeta(this.getMetaDataKey().toString());
-        if (old == null) {
-            return null;
-        }
-        return (T) old;
+        return this.getPlayer().removeTemporaryMeta(this.getMetaDataKey());
     }
 
     @Override
     public void set(final @NonNull T value) {
         this.checkClosed();
-        this.getPlayer().setMeta(this.getMetaDataKey().toString(), value);
+        this.getPlayer().setTemporaryMeta(this.getMetaDataKey(), value);
     }
 
     @NonNull
     @Override
     public Optional<T> get() {
         this.checkClosed();
-        return Optional.ofNullable(this.getPlayer().getMeta(this.getMetaDataKey().toString()));
+        return Optional.ofNullable(this.getPlayer().getTemporaryMeta(this.getMetaDataKey()));
     }
 
 }
@@ -37,6 +37,7 @@ import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.world.block.BlockState;
 import com.sk89q.worldedit.world.block.BlockType;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.Map;
@@ -171,6 +172,17 @@ public final class BlockBucket implements ConfigurationSerializable {
         return this.compiled;
     }
 
+    /**
+     * Get the block of the bucket if it consists of a single block, in which case its pattern always returns that block
+     *
+     * @return the single block, or {@code null} if the bucket is empty or contains multiple blocks
+     * @since 6.8.0
+     */
+    public @Nullable BlockState getSingle() {
+        this.compile();
+        return this.single;
+    }
+
     public Pattern toPattern() {
         this.compile();
         return this.pattern;
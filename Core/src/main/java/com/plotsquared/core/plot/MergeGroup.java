@@ -0,0 +1,81 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import com.plotsquared.core.location.Location;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Set;
+
+/**
+ * The plots connected by merges, together with the shapes derived from them. A group is shared
+ * by all of its plots and stays valid until one of them is merged, unmerged, claimed or removed.
+ */
+final class MergeGroup {
+
+    private final Set<Plot> plots;
+    private volatile boolean valid = true;
+    private volatile Set<CuboidRegion> regions;
+    private volatile Location[] corners;
+
+    MergeGroup(final @NonNull Set<Plot> plots) {
+        this.plots = plots;
+    }
+
+    @NonNull Set<Plot> getPlots() {
+        return this.plots;
+    }
+
+    boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * Invalidate the group, so that its plots calculate their connected plots again when requested
+     */
+    void invalidate() {
+        this.valid = false;
+    }
+
+    @Nullable Set<CuboidRegion> getRegions() {
+        return this.regions;
+    }
+
+    void setRegions(final @NonNull Set<CuboidRegion> regions) {
+        this.regions = regions;
+    }
+
+    @Nullable Location[] getCorners() {
+        return this.corners;
+    }
+
+    void setCorners(final @NonNull Location[] corners) {
+        this.corners = corners;
+    }
+
+}
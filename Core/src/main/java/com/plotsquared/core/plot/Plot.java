@@ -27,7 +27,6 @@ package com.plotsquared.core.plot;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.command.Like;
@@ -58,6 +57,7 @@ import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.flag.types.DoubleFlag;
 import com.plotsquared.core.plot.schematic.Schematic;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.EventDispatcher;
@@ -130,9 +130,6 @@ public class Plot {
     private static final MiniMessage MINI_MESSAGE = MiniMessage.builder().build();
     private static final Cleaner CLEANER = Cleaner.create();
 
-    static Set<Plot> connected_cache;
-    static Set<CuboidRegion> regions_cache;
-
     static {
         FLAG_DECIMAL_FORMAT.setMaximumFractionDigits(340);
     }
@@ -158,6 +155,10 @@ public class Plot {
      */
     @Deprecated
     public int temp;
+    /**
+     * The plots this plot is merged with, shared by all of them. Null until requested or after a merge change.
+     */
+    private volatile MergeGroup mergeGroup;
     /**
      * List of trusted (with plot permissions).
      */
@@ -371,15 +372,9 @@ public class Plot {
         } else if (split.length == 2) {
             id = PlotId.fromString(arg);
         } else {
-            Collection<Plot> plots;
-            if (area == null) {
-                plots = PlotQuery.newQuery().allPlots().asList();
-            } else {
-                plots = area.getPlots();
-            }
-            for (Plot p : plots) {
-                String name = p.getAlias();
-                if (!name.isEmpty() && name.equalsIgnoreCase(arg)) {
+            if (!arg.isEmpty()) {
+                final PlotQuery query = area == null ? PlotQuery.newQuery().allPlots() : PlotQuery.newQuery().inArea(area);
+                for (Plot p : query.withAlias(arg)) {
                     return p.getBasePlot(false);
                 }
             }
@@ -477,7 +472,18 @@ public class Plot {
      * @param owner The new owner of this particular sub-plot.
      */
     public void setOwnerAbs(final @Nullable UUID owner) {
+        final UUID previous = this.owner;
         this.owner = owner;
+        if (this.area != null && !Objects.equals(previous, owner)) {
+            this.area.updateOwnerIndex(this, previous);
+        }
+        if (!Objects.equals(previous, owner)) {
+            // Unowned plots aren't connected to their neighbours
+            invalidateMergeGroup();
+            if (this.area != null) {
+                ChunkPlotCache.invalidate(this.area.getWorldName());
+            }
+        }
     }
 
     /**
@@ -761,6 +767,16 @@ public class Plot {
         this.flagContainer.setParentContainer(area.getFlagContainer());
     }
 
+    /**
+     * Assign a plot loaded from the database to its area, without adding it to the plots of that area
+     *
+     * @param area area the plot was loaded into
+     */
+    void assignArea(final @NonNull PlotArea area) {
+        this.area = area;
+        this.flagContainer.setParentContainer(area.getFlagContainer());
+    }
+
     /**
      * Gets the plot manager object for this plot<br>
      * - The generic PlotManager object can be casted to its respective class for more control (e.g. HybridPlotManager)
@@ -1930,7 +1946,17 @@ public class Plot {
         if (!this.isMerged()) {
             return new Location[]{this.getBottomAbs(), this.getTopAbs()};
         }
-        return RegionUtil.getCorners(this.getWorldName(), this.getRegions());
+        final Set<CuboidRegion> regions = this.getRegions();
+        final MergeGroup group = this.mergeGroup;
+        if (group == null) {
+            return RegionUtil.getCorners(this.getWorldName(), regions);
+        }
+        Location[] corners = group.getCorners();
+        if (corners == null) {
+            corners = RegionUtil.getCorners(this.getWorldName(), regions);
+            group.setCorners(corners);
+        }
+        return corners.clone();
     }
 
     /**
@@ -2111,7 +2137,11 @@ public class Plot {
             if (name.equals(alias)) {
                 return;
             }
+            final String previous = current.getAlias();
             current.getSettings().setAlias(alias);
+            if (current.area != null) {
+                current.area.updateAliasIndex(current, previous);
+            }
             DBFunc.setAlias(current, alias);
         }
     }
@@ -2136,17 +2166,20 @@ public class Plot {
                     this.origin.origin = base;
                     other.origin = base;
                     this.origin = base;
-                    connected_cache = null;
+                }
+                Plot relative = this.getRelative(direction);
+                if (relative != null) {
+                    relative.invalidateMergeGroup();
                 }
             } else {
                 if (this.origin != null) {
                     this.origin.origin = null;
                     this.origin = null;
                 }
-                connected_cache = null;
             }
+            invalidateMergeGroup();
+            ChunkPlotCache.invalidate(this.getWorldName());
             DBFunc.setMerged(this, this.getSettings().getMerged());
-            regions_cache = null;
         }
     }
 
@@ -2178,11 +2211,11 @@ public class Plot {
         this.getSettings().setMerged(merged);
         DBFunc.setMerged(this, merged);
         clearCache();
+        ChunkPlotCache.invalidate(this.getWorldName());
     }
 
     public void clearCache() {
-        connected_cache = null;
-        regions_cache = null;
+        invalidateMergeGroup();
         if (this.origin != null) {
             this.origin.origin = null;
             this.origin = null;
@@ -2213,6 +2246,10 @@ public class Plot {
                 return false;
             }
         }
+        // The owner of this plot is not known before the plots of its area are loaded
+        if (!this.area.isLoaded()) {
+            return false;
+        }
         final UUID owner = this.getOwnerAbs();
         if (owner != null) {
             return false;
@@ -2296,9 +2333,20 @@ public class Plot {
         return this.area.getPlotAbs(this.id.getRelative(direction));
     }
 
+    /**
+     * Invalidate the cached connected plots, regions and corners of all plots merged with this plot
+     */
+    void invalidateMergeGroup() {
+        final MergeGroup group = this.mergeGroup;
+        if (group != null) {
+            group.invalidate();
+            this.mergeGroup = null;
+        }
+    }
+
     /**
      * Gets a set of plots connected (and including) this plot<br>
-     * - This result is cached globally
+     * - This result is cached for all plots of the merge group until the group changes
      *
      * @return a Set of Plots connected to this Plot
      */
@@ -2309,10 +2357,10 @@ public class Plot {
         if (!this.isMerged()) {
             return Collections.singleton(this);
         }
-        if (connected_cache != null && connected_cache.contains(this)) {
-            return connected_cache;
+        final MergeGroup group = this.mergeGroup;
+        if (group != null && group.isValid()) {
+            return group.getPlots();
         }
-        regions_cache = null;
 
         HashSet<Plot> tmpSet = new HashSet<>();
         tmpSet.add(this);
@@ -2417,31 +2465,36 @@ public class Plot {
                 }
             }
         }
-        connected_cache = tmpSet;
+        final MergeGroup merged = new MergeGroup(tmpSet);
+        for (final Plot plot : tmpSet) {
+            plot.mergeGroup = merged;
+        }
         return tmpSet;
     }
 
     /**
      * This will combine each plot into effective rectangular regions<br>
-     * - This result is cached globally<br>
+     * - This result is cached for all plots of the merge group<br>
      * - Useful for handling non rectangular shapes
      *
      * @return all regions within the plot
      */
     public @NonNull Set<CuboidRegion> getRegions() {
-        if (regions_cache != null && connected_cache != null && connected_cache.contains(this)) {
-            return regions_cache;
-        }
         if (!this.isMerged()) {
             Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
             Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
-            connected_cache = Sets.newHashSet(this);
             CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
-            regions_cache = Collections.singleton(rg);
-            return regions_cache;
+            return Collections.singleton(rg);
         }
         Set<Plot> plots = this.getConnectedPlots();
-        Set<CuboidRegion> regions = regions_cache = new HashSet<>();
+        final MergeGroup group = this.mergeGroup;
+        if (group != null) {
+            final Set<CuboidRegion> cached = group.getRegions();
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Set<CuboidRegion> regions = new HashSet<>();
         Set<PlotId> visited = new HashSet<>();
         for (Plot current : plots) {
             if (visited.contains(current.getId())) {
@@ -2559,6 +2612,9 @@ public class Plot {
             BlockVector3 pos2 = BlockVector3.at(gtopabs.getX(), maxHeight, gtopabs.getZ());
             regions.add(new CuboidRegion(pos1, pos2));
         }
+        if (group != null) {
+            group.setRegions(regions);
+        }
         return regions;
     }
 
@@ -29,6 +29,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.collection.ConcurrentLongMap;
 import com.plotsquared.core.collection.QuadMap;
 import com.plotsquared.core.configuration.ConfigurationNode;
 import com.plotsquared.core.configuration.ConfigurationSection;
@@ -36,6 +37,7 @@ import com.plotsquared.core.configuration.ConfigurationUtil;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
+import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.generator.GridPlotWorld;
 import com.plotsquared.core.generator.IndependentPlotGenerator;
 import com.plotsquared.core.inject.annotations.WorldConfig;
@@ -52,12 +54,14 @@ import com.plotsquared.core.plot.flag.FlagParseException;
 import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DoneFlag;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlotExpression;
 import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.StringMan;
+import com.plotsquared.core.util.task.TaskManager;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
@@ -81,11 +85,15 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -102,6 +110,17 @@ public abstract class PlotArea {
     }
 
     protected final ConcurrentHashMap<PlotId, Plot> plots = new ConcurrentHashMap<>();
+    // Same plots keyed by PlotId#pack, for lookups without a PlotId. Changed together with plots while holding its lock
+    private final ConcurrentLongMap<Plot> plotsByPackedId = new ConcurrentLongMap<>();
+    private final Object loadLock = new Object();
+    private volatile boolean loaded = !Settings.Database.LAZY_AREA_LOADING;
+    // The running load of this area, guarded by loadLock
+    private CompletableFuture<Void> loading;
+    private volatile long lastAccess = System.currentTimeMillis();
+    // Ids of the plots owned by a player. Entries may be outdated, so they are checked against the plots when read
+    private final Map<UUID, Set<PlotId>> plotsByOwner = new ConcurrentHashMap<>();
+    // Ids of the plots with an alias, keyed by the lower case alias. Checked against the plots when read as well
+    private final Map<String, Set<PlotId>> plotsByAlias = new ConcurrentHashMap<>();
     @NonNull
     private final String worldName;
     private final String id;
@@ -579,12 +598,7 @@ public abstract class PlotArea {
      * @return the base plot or null
      */
     public @Nullable Plot getOwnedPlot(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
-            return null;
-        }
-        Plot plot = this.plots.get(pid);
+        final Plot plot = getOwnedPlotAbs(location.getX(), location.getY(), location.getZ());
         return plot == null ? null : plot.getBasePlot(false);
     }
 
@@ -595,12 +609,35 @@ public abstract class PlotArea {
      * @return Plot or null
      */
     public @Nullable Plot getOwnedPlotAbs(final @NonNull Location location) {
-        final PlotId pid =
-                this.getPlotManager().getPlotId(location.getX(), location.getY(), location.getZ());
-        if (pid == null) {
-            return null;
-        }
-        return this.plots.get(pid);
+        return getOwnedPlotAbs(location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Get the owned plot at a position in this area. Grid based plot managers find the plot
+     * without creating a {@link PlotId}.
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate
+     * @param z block z coordinate
+     * @return Plot or null
+     * @see PlotManager#getOwnedPlotAbs(int, int, int)
+     * @since 6.8.0
+     */
+    public @Nullable Plot getOwnedPlotAbs(final int x, final int y, final int z) {
+        ensureLoaded();
+        return this.getPlotManager().getOwnedPlotAbs(x, y, z);
+    }
+
+    /**
+     * Get the owned plot with an ID packed with {@link PlotId#pack(int, int)}.
+     *
+     * @param packedId the packed ID
+     * @return the plot or null
+     * @since 6.8.0
+     */
+    public @Nullable Plot getOwnedPlotAbsByPackedId(final long packedId) {
+        ensureLoaded();
+        return this.plotsByPackedId.get(packedId);
     }
 
     /**
@@ -610,10 +647,12 @@ public abstract class PlotArea {
      * @return the plot or null
      */
     public @Nullable Plot getOwnedPlotAbs(final @NonNull PlotId id) {
+        ensureLoaded();
         return this.plots.get(id);
     }
 
     public @Nullable Plot getOwnedPlot(final @NonNull PlotId id) {
+        ensureLoaded();
         Plot plot = this.plots.get(id);
         return plot == null ? null : plot.getBasePlot(false);
     }
@@ -636,15 +675,166 @@ public abstract class PlotArea {
         if (uuid == null) {
             return Collections.emptySet();
         }
+        ensureLoaded();
         final HashSet<Plot> myPlots = new HashSet<>();
-        forEachPlotAbs(value -> {
-            if (uuid.equals(value.getOwnerAbs())) {
-                myPlots.add(value);
+        final Set<PlotId> ids = this.plotsByOwner.get(uuid);
+        if (ids != null) {
+            for (final PlotId id : ids) {
+                final Plot plot = this.plots.get(id);
+                if (plot != null && uuid.equals(plot.getOwnerAbs())) {
+                    myPlots.add(plot);
+                }
             }
-        });
+        }
         return myPlots;
     }
 
+    /**
+     * Get the plots in this area with the given alias, ignoring case.
+     *
+     * @param alias the alias
+     * @return the plots with the alias, empty if the alias is empty
+     * @since 6.8.0
+     */
+    public @NonNull Set<Plot> getPlotsByAlias(final @NonNull String alias) {
+        if (alias.isEmpty()) {
+            return Collections.emptySet();
+        }
+        ensureLoaded();
+        final Set<PlotId> ids = this.plotsByAlias.get(alias.toLowerCase(Locale.ROOT));
+        if (ids == null) {
+            return Collections.emptySet();
+        }
+        final HashSet<Plot> aliased = new HashSet<>();
+        for (final PlotId id : ids) {
+            final Plot plot = this.plots.get(id);
+            if (plot != null && alias.equalsIgnoreCase(plot.getAlias())) {
+                aliased.add(plot);
+            }
+        }
+        return aliased;
+    }
+
+    private void addToOwnerIndex(final @Nullable UUID owner, final @NonNull PlotId id) {
+        if (owner != null) {
+            addToIndex(this.plotsByOwner, owner, id);
+        }
+    }
+
+    private void removeFromOwnerIndex(final @Nullable UUID owner, final @NonNull PlotId id) {
+        if (owner != null) {
+            removeFromIndex(this.plotsByOwner, owner, id);
+        }
+    }
+
+    private void addToAliasIndex(final @NonNull String alias, final @NonNull PlotId id) {
+        if (!alias.isEmpty()) {
+            addToIndex(this.plotsByAlias, alias.toLowerCase(Locale.ROOT), id);
+        }
+    }
+
+    private void removeFromAliasIndex(final @NonNull String alias, final @NonNull PlotId id) {
+        if (!alias.isEmpty()) {
+            removeFromIndex(this.plotsByAlias, alias.toLowerCase(Locale.ROOT), id);
+        }
+    }
+
+    private static <K> void addToIndex(
+            final @NonNull Map<K, Set<PlotId>> index,
+            final @NonNull K key,
+            final @NonNull PlotId id
+    ) {
+        index.compute(key, (k, ids) -> {
+            if (ids == null) {
+                ids = ConcurrentHashMap.newKeySet();
+            }
+            ids.add(id);
+            return ids;
+        });
+    }
+
+    private static <K> void removeFromIndex(
+            final @NonNull Map<K, Set<PlotId>> index,
+            final @NonNull K key,
+            final @NonNull PlotId id
+    ) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Update the owner index after the owner of a plot changed. Does nothing if the plot isn't registered in this area.
+     *
+     * @param plot     the plot
+     * @param previous the previous owner of the plot
+     */
+    void updateOwnerIndex(final @NonNull Plot plot, final @Nullable UUID previous) {
+        final PlotId id = plot.getId();
+        if (this.plots.get(id) != plot) {
+            return;
+        }
+        removeFromOwnerIndex(previous, id);
+        addToOwnerIndex(plot.getOwnerAbs(), id);
+    }
+
+    /**
+     * Update the alias index after the alias of a plot changed. Does nothing if the plot isn't registered in this area.
+     *
+     * @param plot     the plot
+     * @param previous the previous alias of the plot
+     */
+    void updateAliasIndex(final @NonNull Plot plot, final @NonNull String previous) {
+        final PlotId id = plot.getId();
+        if (this.plots.get(id) != plot) {
+            return;
+        }
+        removeFromAliasIndex(previous, id);
+        addToAliasIndex(plot.getAlias(), id);
+    }
+
+    /**
+     * Invalidate the cached merge groups of a plot and of the plots it is merged with, as the group
+     * of a plot that is added or removed changes even if no merge changed.
+     *
+     * @param plot the plot
+     */
+    private void invalidateMergeGroups(final @NonNull Plot plot) {
+        plot.invalidateMergeGroup();
+        if (!plot.isMerged()) {
+            return;
+        }
+        for (int index = 0; index < 4; index++) {
+            final Direction direction = Direction.getFromIndex(index);
+            if (plot.isMerged(direction)) {
+                final Plot relative = this.plots.get(plot.getId().getRelative(direction));
+                if (relative != null) {
+                    relative.invalidateMergeGroup();
+                }
+            }
+        }
+    }
+
+    private boolean putPlot(final @NonNull Plot plot) {
+        final PlotId id = plot.getId();
+        final Plot previous;
+        synchronized (this.plots) {
+            previous = this.plots.put(id, plot);
+            this.plotsByPackedId.put(id.pack(), plot);
+        }
+        ChunkPlotCache.invalidate(this.worldName);
+        if (previous != null) {
+            removeFromOwnerIndex(previous.getOwnerAbs(), id);
+            removeFromAliasIndex(previous.getAlias(), id);
+            invalidateMergeGroups(previous);
+        }
+        addToOwnerIndex(plot.getOwnerAbs(), id);
+        addToAliasIndex(plot.getAlias(), id);
+        invalidateMergeGroups(plot);
+        return previous == null;
+    }
+
     public @NonNull Set<Plot> getPlots(final @NonNull UUID uuid) {
         return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
                 .collect(ImmutableSet.toImmutableSet());
@@ -656,9 +846,149 @@ public abstract class PlotArea {
      * @return a collection of claimed plots
      */
     public Collection<Plot> getPlots() {
+        ensureLoaded();
         return this.plots.values();
     }
 
+    /**
+     * Make sure the plots of this area are loaded from the database, if lazy area loading is enabled and they have
+     * not been loaded yet. Every method accessing the plots of this area calls this first. Other threads wait for
+     * the load, while the main thread only starts it: until the load is done, the area looks empty there and
+     * {@link Plot#canClaim(PlotPlayer)} refuses to claim any of its plots.
+     *
+     * @since 6.8.0
+     */
+    protected void ensureLoaded() {
+        this.lastAccess = System.currentTimeMillis();
+        if (this.loaded || DBFunc.dbManager == null) {
+            return;
+        }
+        if (PlotSquared.get().isMainThread(Thread.currentThread())) {
+            loadAsync();
+            return;
+        }
+        try {
+            loadAsync().join();
+        } catch (CompletionException e) {
+            LOGGER.error("Failed to load the plots of area {}", this, e.getCause());
+        }
+    }
+
+    /**
+     * Start loading the plots of this area from the database in the background, if lazy area loading is enabled
+     * and they have not been loaded yet. Calling this again while the area is loading returns the same load.
+     *
+     * @return future completed once the plots of this area are loaded
+     * @since 6.8.0
+     */
+    public @NonNull CompletableFuture<Void> loadAsync() {
+        if (this.loaded || DBFunc.dbManager == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        synchronized (this.loadLock) {
+            if (this.loaded) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (this.loading == null) {
+                final CompletableFuture<Void> future = new CompletableFuture<>();
+                this.loading = future;
+                TaskManager.runTaskAsync(() -> load(future));
+            }
+            return this.loading;
+        }
+    }
+
+    private void load(final @NonNull CompletableFuture<Void> future) {
+        try {
+            long start = System.currentTimeMillis();
+            Map<PlotId, Plot> plots = DBFunc.getPlots(this);
+            for (Plot plot : plots.values()) {
+                // Plot#setArea would look up the players in every single plot
+                plot.assignArea(this);
+                putPlot(plot);
+            }
+            LOGGER.info("Loaded {} plots of area {} in {}ms", plots.size(), this, System.currentTimeMillis() - start);
+            synchronized (this.loadLock) {
+                this.loaded = true;
+                this.loading = null;
+            }
+            future.complete(null);
+            TaskManager.runTask(this::refreshLastPlots);
+        } catch (Throwable e) {
+            // Leave the area unloaded, so the next access tries again
+            synchronized (this.loadLock) {
+                this.loading = null;
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
+    // Players who were standing in this area while it was loading have no plot recorded yet
+    private void refreshLastPlots() {
+        for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
+            final Location location = player.getLocation();
+            if (!this.equals(location.getPlotArea())) {
+                continue;
+            }
+            final Plot plot = getOwnedPlot(location);
+            if (plot == null) {
+                continue;
+            }
+            try (final MetaDataAccess<Plot> metaDataAccess = player.accessTemporaryMetaData(
+                    PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
+                metaDataAccess.set(plot);
+            }
+        }
+    }
+
+    /**
+     * Get whether the plots of this area are currently loaded. This is always the case unless lazy area loading
+     * is enabled.
+     *
+     * @return {@code true} if the plots of this area are loaded
+     * @since 6.8.0
+     */
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Unload the plots of this area, if lazy area loading is enabled and the area has not been used for the
+     * configured eviction time. The plots are loaded again the next time they are accessed.
+     *
+     * @return {@code true} if the plots were unloaded
+     * @since 6.8.0
+     */
+    public boolean evictIfIdle() {
+        if (!Settings.Database.LAZY_AREA_LOADING || Settings.Database.AREA_EVICTION_TIME <= 0 || !this.loaded) {
+            return false;
+        }
+        long idle = System.currentTimeMillis() - this.lastAccess;
+        if (idle < TimeUnit.MINUTES.toMillis(Settings.Database.AREA_EVICTION_TIME)) {
+            return false;
+        }
+        for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
+            if (this.equals(player.getApplicablePlotArea())) {
+                return false;
+            }
+        }
+        synchronized (this.loadLock) {
+            // Reloading the area before those changes are written would lose them
+            if (DBFunc.hasPendingChanges(this)) {
+                return false;
+            }
+            this.loaded = false;
+            synchronized (this.plots) {
+                this.plots.clear();
+                this.plotsByPackedId.clear();
+            }
+            ChunkPlotCache.invalidate(this.worldName);
+            this.plotsByOwner.clear();
+            this.plotsByAlias.clear();
+        }
+        return true;
+    }
+
     public int getPlotCount(final @NonNull UUID uuid) {
         if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
             return (int) getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
@@ -681,7 +1011,13 @@ public abstract class PlotArea {
     //todo check if this method is needed in this class
 
     public boolean hasPlot(final @NonNull UUID uuid) {
-        return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        ensureLoaded();
+        if (DBFunc.SERVER.equals(uuid)) {
+            // Server plots are owned through a flag, which isn't indexed
+            return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        }
+        // A plot is only owned by a player if they own it, or one of the plots it is merged with
+        return getPlotsAbs(uuid).stream().anyMatch(plot -> plot.isOwner(uuid));
     }
 
     public int getPlotCount(final @Nullable PlotPlayer<?> player) {
@@ -718,6 +1054,7 @@ public abstract class PlotArea {
      * @return the number of claimed plots
      */
     public int getPlotCount() {
+        ensureLoaded();
         return this.plots.size();
     }
 
@@ -790,12 +1127,6 @@ public abstract class PlotArea {
         return myPlots;
     }
 
-    private void forEachPlotAbs(Consumer<Plot> run) {
-        for (final Entry<PlotId, Plot> entry : this.plots.entrySet()) {
-            run.accept(entry.getValue());
-        }
-    }
-
     public void forEachBasePlot(Consumer<Plot> run) {
         for (final Plot plot : getPlots()) {
             if (plot.isBasePlot()) {
@@ -813,21 +1144,24 @@ public abstract class PlotArea {
     //todo eventually remove
     @Deprecated
     public @NonNull Map<PlotId, Plot> getPlotsRaw() {
+        ensureLoaded();
         return ImmutableMap.copyOf(plots);
     }
 
     public @NonNull Set<Entry<PlotId, Plot>> getPlotEntries() {
+        ensureLoaded();
         return this.plots.entrySet();
     }
 
     public boolean addPlot(final @NonNull Plot plot) {
+        ensureLoaded();
         for (final PlotPlayer<?> pp : plot.getPlayersInPlot()) {
             try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                     PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
                 metaDataAccess.set(plot);
             }
         }
-        return this.plots.put(plot.getId(), plot) == null;
+        return putPlot(plot);
     }
 
     public Plot getNextFreePlot(final PlotPlayer<?> player, @Nullable PlotId start) {
@@ -862,7 +1196,19 @@ public abstract class PlotArea {
     }
 
     public boolean addPlotIfAbsent(final @NonNull Plot plot) {
-        if (this.plots.putIfAbsent(plot.getId(), plot) == null) {
+        ensureLoaded();
+        final boolean added;
+        synchronized (this.plots) {
+            added = this.plots.putIfAbsent(plot.getId(), plot) == null;
+            if (added) {
+                this.plotsByPackedId.put(plot.getId().pack(), plot);
+            }
+        }
+        if (added) {
+            ChunkPlotCache.invalidate(this.worldName);
+            addToOwnerIndex(plot.getOwnerAbs(), plot.getId());
+            addToAliasIndex(plot.getAlias(), plot.getId());
+            invalidateMergeGroups(plot);
             for (PlotPlayer<?> pp : plot.getPlayersInPlot()) {
                 try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                         PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
@@ -875,7 +1221,8 @@ public abstract class PlotArea {
     }
 
     public boolean addPlotAbs(final @NonNull Plot plot) {
-        return this.plots.put(plot.getId(), plot) == null;
+        ensureLoaded();
+        return putPlot(plot);
     }
 
     /**
@@ -962,7 +1309,20 @@ public abstract class PlotArea {
     }
 
     public boolean removePlot(final @NonNull PlotId id) {
-        return this.plots.remove(id) != null;
+        ensureLoaded();
+        final Plot plot;
+        synchronized (this.plots) {
+            plot = this.plots.remove(id);
+            if (plot == null) {
+                return false;
+            }
+            this.plotsByPackedId.remove(id.pack());
+        }
+        ChunkPlotCache.invalidate(this.worldName);
+        removeFromOwnerIndex(plot.getOwnerAbs(), id);
+        removeFromAliasIndex(plot.getAlias(), id);
+        invalidateMergeGroups(plot);
+        return true;
     }
 
     public boolean mergePlots(final @NonNull List<PlotId> plotIds, final boolean removeRoads) {
@@ -113,6 +113,40 @@ public final class PlotId {
         return PlotId.of(hash >> 16, hash & 0xFFFF);
     }
 
+    /**
+     * Pack plot ID components into a single long, without the precision loss of {@link #hashCode()}
+     *
+     * @param x The plot x coordinate
+     * @param y The plot y coordinate
+     * @return Packed components
+     * @since 6.8.0
+     */
+    public static long pack(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the plot ID from components packed with {@link #pack(int, int)}
+     *
+     * @param packed Packed components
+     * @return Plot ID
+     * @since 6.8.0
+     */
+    public static @NonNull PlotId unpack(final long packed) {
+        return PlotId.of((int) (packed >> 32), (int) packed);
+    }
+
+    /**
+     * Get the components of this ID packed into a single long
+     *
+     * @return Packed components
+     * @see #pack(int, int)
+     * @since 6.8.0
+     */
+    public long pack() {
+        return pack(this.x, this.y);
+    }
+
     /**
      * Get a copy of the plot ID
      *
@@ -56,6 +56,21 @@ public abstract class PlotManager {
 
     public abstract PlotId getPlotId(int x, int y, int z);
 
+    /**
+     * Get the owned plot at a position. Like {@link #getPlotId(int, int, int)}, a road belongs to a plot
+     * if the plot is merged across it. Implementations may look the plot up without creating a {@link PlotId}.
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate
+     * @param z block z coordinate
+     * @return the plot or {@code null}
+     * @since 6.8.0
+     */
+    public @Nullable Plot getOwnedPlotAbs(int x, int y, int z) {
+        final PlotId id = getPlotId(x, y, z);
+        return id == null ? null : this.plotArea.getOwnedPlotAbs(id);
+    }
+
     // If you have a circular plot, just return the corner if it were a square
     public abstract Location getPlotBottomLocAbs(@NonNull PlotId plotId);
 
@@ -42,6 +42,7 @@ import com.plotsquared.core.inject.factory.ProgressSubscriberFactory;
 import com.plotsquared.core.location.Direction;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
+import com.plotsquared.core.plot.expiration.PlotAnalysisCache;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.PlayerManager;
@@ -170,6 +171,7 @@ public final class PlotModificationManager {
                         queue.enqueue();
                     }
                     destination.getPlotModificationManager().setSign();
+                    PlotAnalysisCache.invalidate(destination);
                     future.complete(true);
                     return;
                 }
@@ -247,6 +249,9 @@ public final class PlotModificationManager {
                             Location[] corners = Plot.getCorners(plot.getWorldName(), region);
                             PlotSquared.platform().regionManager().clearAllEntities(corners[0], corners[1]);
                         }
+                        for (Plot current : plots) {
+                            PlotAnalysisCache.invalidate(current);
+                        }
                         TaskManager.runTask(whenDone);
                     };
                     QueueCoordinator queue = plot.getArea().getQueue();
@@ -327,6 +332,7 @@ public final class PlotModificationManager {
             return false;
         }
         final Set<Plot> plots = this.plot.getConnectedPlots();
+        PlotAnalysisCache.invalidate(this.plot);
         ArrayList<PlotId> ids = new ArrayList<>(plots.size());
         for (Plot current : plots) {
             current.setHome(null);
@@ -481,8 +487,7 @@ public final class PlotModificationManager {
                 this.plot.updateWorldBorder();
             }
         }
-        Plot.connected_cache = null;
-        Plot.regions_cache = null;
+        this.plot.invalidateMergeGroup();
         this.plot.getTrusted().clear();
         this.plot.getMembers().clear();
         this.plot.getDenied().clear();
@@ -633,6 +638,9 @@ public final class PlotModificationManager {
         if (queue.size() > 0) {
             queue.enqueue();
         }
+        if (toReturn) {
+            PlotAnalysisCache.invalidate(this.plot);
+        }
         return toReturn;
     }
 
@@ -714,6 +722,8 @@ public final class PlotModificationManager {
                             // Update signs
                             destination.getPlotModificationManager().setSign();
                             setSign();
+                            PlotAnalysisCache.invalidate(destination);
+                            PlotAnalysisCache.invalidate(PlotModificationManager.this.plot);
                             // Run final tasks
                             TaskManager.runTask(whenDone);
                         } else {
@@ -746,6 +756,7 @@ public final class PlotModificationManager {
                                     queue.enqueue();
                                 }
                                 plot.getPlotModificationManager().setSign();
+                                PlotAnalysisCache.invalidate(plot);
                                 TaskManager.runTask(whenDone);
                             };
                             if (originPlot != null) {
@@ -835,6 +846,7 @@ public final class PlotModificationManager {
             final @Nullable QueueCoordinator queue
     ) {
         final PlotComponentSetEvent event = PlotSquared.get().getEventDispatcher().callComponentSet(this.plot, component, blocks);
+        PlotAnalysisCache.markModified(this.plot);
         return this.plot.getManager().setComponent(this.plot.getId(), event.getComponent(), event.getPattern(), actor, queue);
     }
 
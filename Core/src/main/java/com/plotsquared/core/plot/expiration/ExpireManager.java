@@ -30,7 +30,6 @@ import com.plotsquared.core.configuration.caption.Caption;
 import com.plotsquared.core.configuration.caption.Templates;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
-import com.plotsquared.core.events.PlotFlagAddEvent;
 import com.plotsquared.core.events.PlotUnlinkEvent;
 import com.plotsquared.core.events.Result;
 import com.plotsquared.core.player.MetaDataAccess;
@@ -40,19 +39,16 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotAreaType;
-import com.plotsquared.core.plot.flag.GlobalFlagContainer;
-import com.plotsquared.core.plot.flag.PlotFlag;
-import com.plotsquared.core.plot.flag.implementations.AnalysisFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.util.EventDispatcher;
-import com.plotsquared.core.util.query.PlotQuery;
 import com.plotsquared.core.util.task.RunnableVal;
 import com.plotsquared.core.util.task.RunnableVal3;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import net.kyori.adventure.text.minimessage.Template;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -63,7 +59,6 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 
 public class ExpireManager {
 
@@ -73,10 +68,11 @@ public class ExpireManager {
     private final EventDispatcher eventDispatcher;
     private final ArrayDeque<ExpiryTask> tasks;
     private volatile HashSet<Plot> plotsToDelete;
+    private volatile ExpirySweep sweep;
     /**
-     * 0 = stopped, 1 = stopping, 2 = running
+     * 0 = stopped, 1 = stopping, 2 = running, 3 = waiting for the next run
      */
-    private int running;
+    private volatile int running;
 
     public ExpireManager(final @NonNull EventDispatcher eventDispatcher) {
         this.tasks = new ArrayDeque<>();
@@ -188,6 +184,10 @@ public class ExpireManager {
             return false;
         }
         this.running = 1;
+        final ExpirySweep sweep = this.sweep;
+        if (sweep != null) {
+            sweep.cancel();
+        }
         return true;
     }
 
@@ -305,102 +305,34 @@ public class ExpireManager {
             return false;
         }
         this.running = 2;
-        TaskManager.runTaskAsync(new Runnable() {
-            private ConcurrentLinkedDeque<Plot> plots = null;
-
-            @Override
-            public void run() {
-                final Runnable task = this;
-                if (ExpireManager.this.running != 2) {
-                    ExpireManager.this.running = 0;
-                    return;
-                }
-                if (plots == null) {
-                    plots = new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
-                }
-                while (!plots.isEmpty()) {
-                    if (ExpireManager.this.running != 2) {
-                        ExpireManager.this.running = 0;
-                        return;
-                    }
-                    Plot plot = plots.poll();
-                    PlotArea area = plot.getArea();
-                    final Plot newPlot = area.getPlot(plot.getId());
-                    final ArrayDeque<ExpiryTask> applicable = new ArrayDeque<>(tasks);
-                    final Collection<ExpiryTask> expired = isExpired(applicable, newPlot);
-                    if (expired.isEmpty()) {
-                        continue;
-                    }
-                    for (ExpiryTask expiryTask : expired) {
-                        if (!expiryTask.needsAnalysis()) {
-                            expiredTask.run(newPlot, () -> TaskManager.getPlatformImplementation()
-                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                    expiryTask.requiresConfirmation()
-                            );
-                            return;
-                        }
-                    }
-                    final RunnableVal<PlotAnalysis> handleAnalysis =
-                            new RunnableVal<>() {
-                                @Override
-                                public void run(final PlotAnalysis changed) {
-                                    passesComplexity(changed, expired, new RunnableVal<>() {
-                                        @Override
-                                        public void run(Boolean confirmation) {
-                                            expiredTask.run(
-                                                    newPlot,
-                                                    () -> TaskManager
-                                                            .getPlatformImplementation()
-                                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                                    confirmation
-                                            );
-                                        }
-                                    }, () -> {
-                                        PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance()
-                                                .getFlag(AnalysisFlag.class)
-                                                .createFlagInstance(changed.asList());
-                                        PlotFlagAddEvent event =
-                                                eventDispatcher.callFlagAdd(plotFlag, plot);
-                                        if (event.getEventResult() == Result.DENY) {
-                                            return;
-                                        }
-                                        newPlot.setFlag(event.getFlag());
-                                        TaskManager.runTaskLaterAsync(task, TaskTime.seconds(1L));
-                                    });
-                                }
-                            };
-                    final Runnable doAnalysis =
-                            () -> PlotSquared.platform().hybridUtils().analyzePlot(newPlot, handleAnalysis);
-
-                    PlotAnalysis analysis = newPlot.getComplexity(null);
-                    if (analysis != null) {
-                        passesComplexity(analysis, expired, new RunnableVal<>() {
-                            @Override
-                            public void run(Boolean value) {
-                                doAnalysis.run();
-                            }
-                        }, () -> TaskManager.getPlatformImplementation().taskLaterAsync(task, TaskTime.ticks(1L)));
-                    } else {
-                        doAnalysis.run();
-                    }
-                    return;
-                }
-                if (plots.isEmpty()) {
-                    ExpireManager.this.running = 3;
-                    TaskManager.runTaskLater(() -> {
-                        if (ExpireManager.this.running == 3) {
-                            ExpireManager.this.running = 2;
-                            runTask(expiredTask);
-                        }
-                    }, TaskTime.ticks(86400000L));
-                } else {
-                    TaskManager.runTaskLaterAsync(task, TaskTime.seconds(10L));
-                }
+        this.sweep = new ExpirySweep(this, expiredTask, () -> {
+            this.sweep = null;
+            if (this.running != 2) {
+                this.running = 0;
+                return;
             }
+            this.running = 3;
+            TaskManager.runTaskLater(() -> {
+                if (this.running == 3) {
+                    this.running = 0;
+                    runTask(expiredTask);
+                }
+            }, TaskTime.ticks(86400000L));
         });
+        this.sweep.start();
         return true;
     }
 
+    /**
+     * Get the expiry sweep that is currently running
+     *
+     * @return the running sweep, or {@code null} if plots are not being checked for expiry right now
+     * @since 6.8.0
+     */
+    public @Nullable ExpirySweep getSweep() {
+        return this.sweep;
+    }
+
     public void storeDate(UUID uuid, long time) {
         Long existing = this.dates_cache.put(uuid, time);
         if (existing != null) {
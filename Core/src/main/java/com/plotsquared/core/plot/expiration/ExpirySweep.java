@@ -0,0 +1,329 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import com.plotsquared.core.util.query.PlotQuery;
+import com.plotsquared.core.util.task.PlotSquaredTask;
+import com.plotsquared.core.util.task.RunnableVal;
+import com.plotsquared.core.util.task.RunnableVal3;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single run of the {@link ExpireManager} over every plot in an area with expiry tasks.
+ * <p>
+ * One async thread evaluates the expiry tasks against all plots up front. Meanwhile a pump that runs once a second
+ * analyzes plots that need an analysis, a limited number at a time. It also hands expired plots to the expiry task
+ * at the rate set by {@link Settings.Expiry#PLOTS_PER_MINUTE}. Deletions issued close together are committed in the
+ * same transactions by the database writers.
+ *
+ * @since 6.8.0
+ */
+public final class ExpirySweep {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + ExpirySweep.class.getSimpleName());
+
+    private final ExpireManager expireManager;
+    private final RunnableVal3<Plot, Runnable, Boolean> expiredTask;
+    private final Runnable whenDone;
+    private final Map<PlotArea, ArrayDeque<ExpiryTask>> tasks = new HashMap<>();
+    private final Queue<Candidate> candidates = new ConcurrentLinkedQueue<>();
+    private final Queue<Candidate> expired = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger expiredPlots = new AtomicInteger();
+    private volatile int total = -1;
+    private volatile boolean evaluating = true;
+    private volatile boolean cancelled;
+    private volatile long startTime;
+    private PlotSquaredTask pump;
+    private boolean finished;
+    private long lastPump;
+    private long lastReport;
+    private double allowance;
+
+    ExpirySweep(
+            final @NonNull ExpireManager expireManager,
+            final @NonNull RunnableVal3<Plot, Runnable, Boolean> expiredTask,
+            final @NonNull Runnable whenDone
+    ) {
+        this.expireManager = expireManager;
+        this.expiredTask = expiredTask;
+        this.whenDone = whenDone;
+    }
+
+    void start() {
+        this.startTime = System.currentTimeMillis();
+        this.lastPump = this.startTime;
+        this.lastReport = this.startTime;
+        for (final PlotArea area : PlotSquared.get().getPlotAreaManager().getAllPlotAreas()) {
+            final ArrayDeque<ExpiryTask> areaTasks = this.expireManager.getTasks(area);
+            if (!areaTasks.isEmpty()) {
+                this.tasks.put(area, areaTasks);
+            }
+        }
+        TaskManager.runTaskAsync(this::evaluate);
+        this.pump = TaskManager.getPlatformImplementation().taskRepeatAsync(this::pump, TaskTime.seconds(1L));
+    }
+
+    /**
+     * Stop the sweep. Analyses and deletions that already started are allowed to finish.
+     */
+    void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Get the number of plots the sweep is going to evaluate
+     *
+     * @return number of plots, or {@code -1} if the plots have not been collected yet
+     */
+    public int getTotal() {
+        return this.total;
+    }
+
+    /**
+     * Get the number of plots the sweep is done with, expired or not
+     *
+     * @return number of processed plots
+     */
+    public int getProcessed() {
+        return this.processed.get();
+    }
+
+    /**
+     * Get the number of plots that were handed to the expiry task
+     *
+     * @return number of expired plots
+     */
+    public int getExpired() {
+        return this.expiredPlots.get();
+    }
+
+    /**
+     * Get the number of plots that are being analyzed or deleted right now
+     *
+     * @return number of plots in flight
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * Get the estimated time until the sweep finishes, based on the rate plots were processed at so far and the
+     * configured deletion rate
+     *
+     * @return the remaining time in milliseconds, or {@code -1} if it cannot be estimated yet
+     */
+    public long getEstimatedTimeRemaining() {
+        final int total = this.total;
+        final int processed = this.processed.get();
+        if (total < 0 || processed == 0) {
+            return -1;
+        }
+        final long elapsed = System.currentTimeMillis() - this.startTime;
+        long remaining = (long) ((total - processed) * (elapsed / (double) processed));
+        if (Settings.Expiry.PLOTS_PER_MINUTE > 0) {
+            final long deletions = this.expired.size() * TimeUnit.MINUTES.toMillis(1) / Settings.Expiry.PLOTS_PER_MINUTE;
+            remaining = Math.max(remaining, deletions);
+        }
+        return remaining;
+    }
+
+    private void evaluate() {
+        try {
+            final List<Plot> plots = PlotQuery.newQuery().inAreas(new ArrayList<>(this.tasks.keySet())).whereBasePlot().asList();
+            this.total = plots.size();
+            LOGGER.info("Checking {} plots for expiry", plots.size());
+            for (final Plot plot : plots) {
+                if (this.cancelled) {
+                    return;
+                }
+                final Plot current = plot.getArea().getPlot(plot.getId());
+                final Collection<ExpiryTask> expiryTasks = this.expireManager.isExpired(
+                        new ArrayDeque<>(this.tasks.get(current.getArea())),
+                        current
+                );
+                if (expiryTasks.isEmpty()) {
+                    this.processed.incrementAndGet();
+                    continue;
+                }
+                this.queue(current, expiryTasks);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to check plots for expiry", e);
+        } finally {
+            this.evaluating = false;
+        }
+    }
+
+    private void queue(final @NonNull Plot plot, final @NonNull Collection<ExpiryTask> expiryTasks) {
+        for (final ExpiryTask expiryTask : expiryTasks) {
+            if (!expiryTask.needsAnalysis()) {
+                this.expired.add(new Candidate(plot, expiryTasks, expiryTask.requiresConfirmation()));
+                return;
+            }
+        }
+        this.candidates.add(new Candidate(plot, expiryTasks, false));
+    }
+
+    private synchronized void pump() {
+        if (this.finished) {
+            return;
+        }
+        if (this.cancelled) {
+            this.candidates.clear();
+            this.expired.clear();
+        }
+        final long now = System.currentTimeMillis();
+        final int maxInFlight = Math.max(1, Settings.Expiry.MAX_IN_FLIGHT);
+        Candidate candidate;
+        while (this.inFlight.get() < maxInFlight && (candidate = this.candidates.poll()) != null) {
+            this.inFlight.incrementAndGet();
+            this.analyze(candidate);
+        }
+        final int plotsPerMinute = Settings.Expiry.PLOTS_PER_MINUTE;
+        if (plotsPerMinute > 0) {
+            // Allow at most a second worth of deletions to build up while there was nothing to delete
+            this.allowance = Math.min(
+                    this.allowance + (now - this.lastPump) * plotsPerMinute / (double) TimeUnit.MINUTES.toMillis(1),
+                    Math.max(1d, plotsPerMinute / 60d)
+            );
+        } else {
+            this.allowance = maxInFlight;
+        }
+        this.lastPump = now;
+        while (this.allowance >= 1 && this.inFlight.get() < maxInFlight && (candidate = this.expired.poll()) != null) {
+            // The owner may have returned since the plot was evaluated
+            final Plot plot = candidate.plot();
+            if (!plot.hasOwner() || this.expireManager
+                    .isExpired(new ArrayDeque<>(this.tasks.get(plot.getArea())), plot)
+                    .isEmpty()) {
+                this.processed.incrementAndGet();
+                continue;
+            }
+            this.allowance--;
+            this.inFlight.incrementAndGet();
+            this.delete(candidate);
+        }
+        final long reportInterval = TimeUnit.SECONDS.toMillis(Settings.Expiry.PROGRESS_INTERVAL);
+        if (reportInterval > 0 && now - this.lastReport >= reportInterval) {
+            this.lastReport = now;
+            final long eta = this.getEstimatedTimeRemaining();
+            LOGGER.info(
+                    "Expiry: {}/{} plots processed, {} expired, {} in flight, ETA {}",
+                    this.processed.get(),
+                    this.total,
+                    this.expiredPlots.get(),
+                    this.inFlight.get(),
+                    eta < 0 ? "unknown" : TimeUnit.MILLISECONDS.toMinutes(eta) + " minutes"
+            );
+        }
+        if (!this.evaluating && this.candidates.isEmpty() && this.expired.isEmpty() && this.inFlight.get() == 0) {
+            this.finished = true;
+            this.pump.cancel();
+            LOGGER.info(
+                    "Expiry {} after {} seconds: {} plots processed, {} expired",
+                    this.cancelled ? "cancelled" : "finished",
+                    TimeUnit.MILLISECONDS.toSeconds(now - this.startTime),
+                    this.processed.get(),
+                    this.expiredPlots.get()
+            );
+            this.whenDone.run();
+        }
+    }
+
+    private void analyze(final @NonNull Candidate candidate) {
+        // A stored analysis that says the plot is complex enough is trusted, one that would let it expire is
+        // checked again unless the cache knows the plot did not change since
+        final PlotAnalysis stored = PlotAnalysisCache.peek(candidate.plot()) == null
+                ? candidate.plot().getComplexity(null) : null;
+        if (stored == null) {
+            this.analyzeNow(candidate);
+            return;
+        }
+        this.expireManager.passesComplexity(stored, candidate.expiryTasks(), new RunnableVal<>() {
+            @Override
+            public void run(final Boolean confirmation) {
+                analyzeNow(candidate);
+            }
+        }, this::release);
+    }
+
+    private void analyzeNow(final @NonNull Candidate candidate) {
+        PlotSquared.platform().hybridUtils().analyzePlot(candidate.plot(), new RunnableVal<>() {
+            @Override
+            public void run(final PlotAnalysis analysis) {
+                if (analysis == null) {
+                    release();
+                    return;
+                }
+                expireManager.passesComplexity(analysis, candidate.expiryTasks(), new RunnableVal<>() {
+                    @Override
+                    public void run(final Boolean confirmation) {
+                        expired.add(new Candidate(candidate.plot(), candidate.expiryTasks(), confirmation));
+                        inFlight.decrementAndGet();
+                    }
+                }, ExpirySweep.this::release);
+            }
+        });
+    }
+
+    private void delete(final @NonNull Candidate candidate) {
+        TaskManager.runTask(() -> this.expiredTask.run(candidate.plot(), () -> {
+            this.expiredPlots.incrementAndGet();
+            this.release();
+        }, candidate.confirmation()));
+    }
+
+    private void release() {
+        this.processed.incrementAndGet();
+        this.inFlight.decrementAndGet();
+    }
+
+    private record Candidate(Plot plot, Collection<ExpiryTask> expiryTasks, boolean confirmation) {
+
+    }
+
+}
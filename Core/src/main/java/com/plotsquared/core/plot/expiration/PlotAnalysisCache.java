@@ -0,0 +1,175 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.world.ChunkPlotCache;
+import com.sk89q.worldedit.math.BlockVector2;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches plot analyses against a per-plot modification counter. Anything that changes blocks inside a plot calls
+ * {@link #markModified(Plot)}, and a cached analysis is only returned while the counter still has the value it had
+ * when the analysis started. Entries are kept for the base plot of a merged group. Once too many plots are tracked,
+ * all entries are dropped and the plots are analyzed again.
+ *
+ * @since 6.8.0
+ */
+public final class PlotAnalysisCache {
+
+    private static final int MAX_ENTRIES = 1 << 15;
+    private static final VersionedCache<Plot, PlotAnalysis> ENTRIES = new VersionedCache<>(MAX_ENTRIES);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private PlotAnalysisCache() {
+    }
+
+    /**
+     * Mark the contents of a plot as changed, invalidating any cached analysis of it.
+     * Unowned plots are ignored as they are never analyzed.
+     *
+     * @param plot the plot that was modified
+     */
+    public static void markModified(final @NonNull Plot plot) {
+        if (!plot.hasOwner()) {
+            return;
+        }
+        ENTRIES.markModified(plot.getBasePlot(false));
+    }
+
+    /**
+     * Mark the contents of every owned plot that contains part of the given chunks as changed, e.g. once a queue
+     * writes to them.
+     *
+     * @param world  name of the world the chunks are in
+     * @param chunks the modified chunks
+     */
+    public static void markModified(final @NonNull String world, final @NonNull Collection<BlockVector2> chunks) {
+        final ChunkPlotCache cache = ChunkPlotCache.of(world);
+        final Set<Plot> plots = new HashSet<>();
+        for (final BlockVector2 chunk : chunks) {
+            plots.addAll(cache.getOwnedPlotsAbs(chunk.getX(), chunk.getZ()));
+        }
+        for (final Plot plot : plots) {
+            markModified(plot);
+        }
+    }
+
+    /**
+     * Get the current modification counter of a plot. Pass this to {@link #put(Plot, long, PlotAnalysis)} once an
+     * analysis that was started at this point has finished.
+     *
+     * @param plot the plot
+     * @return the modification counter
+     */
+    public static long getVersion(final @NonNull Plot plot) {
+        return ENTRIES.getVersion(plot.getBasePlot(false));
+    }
+
+    /**
+     * Get the cached analysis of a plot, if the plot has not been modified since it was analyzed.
+     *
+     * @param plot the plot
+     * @return the cached analysis, or {@code null} if the plot has to be analyzed again
+     */
+    public static @Nullable PlotAnalysis get(final @NonNull Plot plot) {
+        final PlotAnalysis analysis = peek(plot);
+        if (analysis == null) {
+            MISSES.increment();
+        } else {
+            HITS.increment();
+        }
+        return analysis;
+    }
+
+    /**
+     * Get the cached analysis of a plot like {@link #get(Plot)}, without counting a cache hit or miss.
+     *
+     * @param plot the plot
+     * @return the cached analysis, or {@code null} if the plot has to be analyzed again
+     */
+    public static @Nullable PlotAnalysis peek(final @NonNull Plot plot) {
+        return ENTRIES.get(plot.getBasePlot(false));
+    }
+
+    /**
+     * Cache the analysis of a plot.
+     *
+     * @param plot     the plot
+     * @param version  the modification counter, as returned by {@link #getVersion(Plot)} before the analysis started
+     * @param analysis the analysis
+     */
+    public static void put(final @NonNull Plot plot, final long version, final @NonNull PlotAnalysis analysis) {
+        ENTRIES.put(plot.getBasePlot(false), version, analysis);
+    }
+
+    /**
+     * Drop the cached analyses of a plot and every plot connected to it, e.g. once they were merged, unlinked or
+     * deleted. Unlike {@link #markModified(Plot)} this also applies to plots that are no longer owned.
+     *
+     * @param plot the plot
+     */
+    public static void invalidate(final @NonNull Plot plot) {
+        for (final Plot current : plot.getConnectedPlots()) {
+            ENTRIES.invalidate(current);
+        }
+    }
+
+    /**
+     * Get the number of analyses that were served from the cache.
+     *
+     * @return cache hits
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Get the number of analyses that had to be computed because the plot changed or was never analyzed.
+     *
+     * @return cache misses
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Get the number of plots that are currently tracked.
+     *
+     * @return tracked plots
+     */
+    public static int size() {
+        return ENTRIES.size();
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Values cached against a modification stamp per key. A value is only returned while its key has not been marked as
+ * modified since the value was computed. At most a fixed number of keys is tracked: once that is exceeded all keys are
+ * dropped, and every value computed before is treated as outdated.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class VersionedCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // Shared by all keys, so that a stamp is never used twice
+    private final AtomicLong stamps = new AtomicLong();
+    // Version of the keys without an entry, raised whenever the entries are dropped
+    private volatile long floor;
+
+    VersionedCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Mark a key as modified, so that values computed for it before are outdated
+     */
+    void markModified(final @NonNull K key) {
+        this.entry(key).modified = this.stamps.incrementAndGet();
+    }
+
+    /**
+     * Get the current version of a key, to be passed to {@link #put(Object, long, Object)} once the value that is
+     * computed from this point on is known
+     */
+    long getVersion(final @NonNull K key) {
+        final Entry<V> entry = this.entries.get(key);
+        return entry == null ? this.floor : entry.modified;
+    }
+
+    /**
+     * Get the value of a key, if the key has not been modified since it was computed
+     */
+    @Nullable V get(final @NonNull K key) {
+        final Entry<V> entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final Versioned<V> value = entry.value;
+        if (value == null || value.version() != entry.modified) {
+            return null;
+        }
+        return value.value();
+    }
+
+    /**
+     * Cache the value of a key, computed at the given version of the key
+     */
+    void put(final @NonNull K key, final long version, final @NonNull V value) {
+        this.entry(key).value = new Versioned<>(version, value);
+    }
+
+    /**
+     * Mark a key as modified and drop its value
+     */
+    void invalidate(final @NonNull K key) {
+        final Entry<V> entry = this.entry(key);
+        entry.modified = this.stamps.incrementAndGet();
+        entry.value = null;
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    private @NonNull Entry<V> entry(final @NonNull K key) {
+        final Entry<V> entry = this.entries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        if (this.entries.size() >= this.maxSize) {
+            // Values that are still being computed may belong to dropped keys, so their versions must no longer match
+            this.floor = this.stamps.incrementAndGet();
+            this.entries.clear();
+        }
+        return this.entries.computeIfAbsent(key, ignored -> new Entry<>(this.floor));
+    }
+
+    private static final class Entry<V> {
+
+        private volatile long modified;
+        private volatile Versioned<V> value;
+
+        private Entry(final long modified) {
+            this.modified = modified;
+        }
+
+    }
+
+    private record Versioned<V>(long version, V value) {
+
+    }
+
+}
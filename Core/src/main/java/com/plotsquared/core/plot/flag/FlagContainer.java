@@ -40,6 +40,8 @@ import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Container type for {@link PlotFlag plot flags}.
@@ -47,13 +49,21 @@ import java.util.Objects;
 public class FlagContainer {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + FlagContainer.class.getSimpleName());
+    /**
+     * Source of the container versions, so that concurrent changes never result in the same version
+     */
+    private static final AtomicLong VERSIONS = new AtomicLong();
 
     private final Map<String, String> unknownFlags = new HashMap<>();
-    private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
+    // Concurrent, as flags are also read off the main thread while the snapshot is compiled
+    private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new ConcurrentHashMap<>();
     private final PlotFlagUpdateHandler plotFlagUpdateHandler;
     private final Collection<PlotFlagUpdateHandler> updateSubscribers = new HashSet<>();
     private final PlotFlagUpdateHandler unknownsRef;
     private FlagContainer parentContainer;
+    // Changed whenever the flags of this container change, the snapshot is compiled for one version
+    private volatile long version;
+    private volatile FlagSnapshot snapshot;
 
     /**
      * Construct a new flag container with an optional parent container and update handler.
@@ -157,6 +167,7 @@ public class FlagContainer {
                     "flag name may not be more than 64 characters. Check: " + flag.getName()
             );
             final PlotFlag<?, ?> oldInstance = this.flagMap.put(flag.getClass(), flag);
+            this.version = VERSIONS.incrementAndGet();
             final PlotFlagUpdateType plotFlagUpdateType;
             if (oldInstance != null) {
                 plotFlagUpdateType = PlotFlagUpdateType.FLAG_UPDATED;
@@ -187,6 +198,7 @@ public class FlagContainer {
     @SuppressWarnings("unchecked")
     public <V, T extends PlotFlag<V, ?>> V removeFlag(final T flag) {
         final Object value = this.flagMap.remove(flag.getClass());
+        this.version = VERSIONS.incrementAndGet();
         if (this.plotFlagUpdateHandler != null) {
             this.plotFlagUpdateHandler.handle(flag, PlotFlagUpdateType.FLAG_REMOVED);
         }
@@ -223,6 +235,7 @@ public class FlagContainer {
      */
     public void clearLocal() {
         this.flagMap.clear();
+        this.version = VERSIONS.incrementAndGet();
     }
 
     /**
@@ -256,6 +269,10 @@ public class FlagContainer {
      * @return the plot flag
      */
     public PlotFlag<?, ?> getFlagErased(Class<?> flagClass) {
+        final PlotFlag<?, ?> compiled = this.getSnapshot().get(flagClass);
+        if (compiled != null) {
+            return compiled;
+        }
         final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
         if (flag != null) {
             return flag;
@@ -278,6 +295,10 @@ public class FlagContainer {
      * @return Flag instance
      */
     public <V, T extends PlotFlag<V, ?>> T getFlag(final Class<? extends T> flagClass) {
+        final PlotFlag<?, ?> compiled = this.getSnapshot().get(flagClass);
+        if (compiled != null) {
+            return castUnsafe(compiled);
+        }
         final PlotFlag<?, ?> flag = this.flagMap.get(flagClass);
         if (flag != null) {
             return castUnsafe(flag);
@@ -289,6 +310,27 @@ public class FlagContainer {
         return null;
     }
 
+    /**
+     * Get the compiled view of this container and its parents, compiling it again if this container has
+     * changed since it was last compiled or the snapshot of its parent has been replaced. A change to one
+     * container therefore only invalidates the snapshots of that container and its children.
+     *
+     * @return up-to-date snapshot
+     */
+    private @NonNull FlagSnapshot getSnapshot() {
+        final long version = this.version;
+        final FlagContainer parent = this.getParentContainer();
+        final FlagSnapshot parentSnapshot = parent == null ? null : parent.getSnapshot();
+        FlagSnapshot snapshot = this.snapshot;
+        if (snapshot != null && snapshot.getVersion() == version && snapshot.getParent() == parentSnapshot) {
+            return snapshot;
+        }
+        // Compiled from a copy, so that the flags cannot change between computing its size and filling it
+        snapshot = new FlagSnapshot(version, parentSnapshot, new HashMap<>(this.flagMap));
+        this.snapshot = snapshot;
+        return snapshot;
+    }
+
     /**
      * Check for flag existence in this flag container instance.
      *
@@ -0,0 +1,106 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.flag;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, fully resolved view of the flags of a {@link FlagContainer} and all of its parents. Flags are stored
+ * in an array indexed by an ordinal assigned to each flag class, so a lookup does not have to walk the container
+ * hierarchy.
+ */
+final class FlagSnapshot {
+
+    private static final AtomicInteger NEXT_ORDINAL = new AtomicInteger();
+    private static final ClassValue<Integer> ORDINALS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final @NonNull Class<?> type) {
+            return NEXT_ORDINAL.getAndIncrement();
+        }
+    };
+
+    private final long version;
+    private final FlagSnapshot parent;
+    private final PlotFlag<?, ?>[] flags;
+
+    /**
+     * Compile a snapshot
+     *
+     * @param version version of the container the snapshot is compiled for
+     * @param parent  snapshot of the parent container, or {@code null}
+     * @param local   flags stored in the container itself
+     */
+    FlagSnapshot(
+            final long version,
+            final @Nullable FlagSnapshot parent,
+            final @NonNull Map<Class<?>, PlotFlag<?, ?>> local
+    ) {
+        this.version = version;
+        this.parent = parent;
+        if (parent != null && local.isEmpty()) {
+            // Nothing to add to the flags of the parent, which are never modified
+            this.flags = parent.flags;
+            return;
+        }
+        int length = parent == null ? 0 : parent.flags.length;
+        for (final Class<?> flagClass : local.keySet()) {
+            length = Math.max(length, ordinal(flagClass) + 1);
+        }
+        this.flags = parent == null ? new PlotFlag<?, ?>[length] : Arrays.copyOf(parent.flags, length);
+        for (final Map.Entry<Class<?>, PlotFlag<?, ?>> entry : local.entrySet()) {
+            this.flags[ordinal(entry.getKey())] = entry.getValue();
+        }
+    }
+
+    private static int ordinal(final @NonNull Class<?> flagClass) {
+        return ORDINALS.get(flagClass);
+    }
+
+    long getVersion() {
+        return this.version;
+    }
+
+    @Nullable FlagSnapshot getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Get the flag of a given class
+     *
+     * @param flagClass flag class
+     * @return the flag, or {@code null} if neither the container nor any of its parents contain it
+     */
+    @Nullable PlotFlag<?, ?> get(final @NonNull Class<?> flagClass) {
+        final int ordinal = ordinal(flagClass);
+        return ordinal < this.flags.length ? this.flags[ordinal] : null;
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.collection.ConcurrentLongMap;
+import com.plotsquared.core.util.MathMan;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Values computed per chunk, which are all dropped at once when the data they were computed from changes. At most
+ * a fixed number of chunks is remembered.
+ *
+ * @param <E> value type
+ */
+final class ChunkEntryCache<E> {
+
+    private final int maxChunks;
+    private final Classifier<E> classifier;
+    private final ConcurrentLongMap<E> chunks = new ConcurrentLongMap<>();
+    private volatile long generation;
+
+    ChunkEntryCache(final int maxChunks, final @NonNull Classifier<E> classifier) {
+        this.maxChunks = maxChunks;
+        this.classifier = classifier;
+    }
+
+    /**
+     * Get the value of the chunk containing a position, computing it if it is not known
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate, passed on if the value is computed
+     * @param z block z coordinate
+     * @return the value of the chunk
+     */
+    @NonNull E get(final int x, final int y, final int z) {
+        final long key = MathMan.pairInt(x >> 4, z >> 4);
+        E entry = this.chunks.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        final long generation = this.generation;
+        entry = this.classifier.classify(x >> 4, y, z >> 4);
+        if (this.chunks.size() >= this.maxChunks) {
+            this.chunks.clear();
+        }
+        this.chunks.put(key, entry);
+        // The data changed while the chunk was classified, so the entry may already be outdated
+        if (this.generation != generation) {
+            this.chunks.remove(key);
+        }
+        return entry;
+    }
+
+    /**
+     * Get the number of times the cache has been cleared
+     */
+    long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Drop the values of all chunks
+     */
+    void clear() {
+        this.generation++;
+        if (this.chunks.size() > 0) {
+            this.chunks.clear();
+        }
+    }
+
+    int size() {
+        return this.chunks.size();
+    }
+
+    @FunctionalInterface
+    interface Classifier<E> {
+
+        /**
+         * Compute the value of a chunk
+         *
+         * @param chunkX chunk x coordinate
+         * @param y      block y coordinate of the position that was requested
+         * @param chunkZ chunk z coordinate
+         * @return the value of the chunk
+         */
+        @NonNull E classify(int chunkX, int y, int chunkZ);
+
+    }
+
+}
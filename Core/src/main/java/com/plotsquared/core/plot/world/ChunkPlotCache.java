@@ -0,0 +1,212 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.location.Location;
+import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which plot area and owned plot the chunks of a world belong to. A chunk that lies entirely in one owned
+ * plot, entirely in unowned space of one area or entirely outside of all areas is resolved with a single lookup,
+ * without creating a {@link Location} or computing a plot id. Chunks containing more than one of those are
+ * resolved the regular way every time.
+ * <p>
+ * The cache of a world is invalidated whenever a plot in it is claimed, merged, unlinked or deleted, or an area of
+ * it is added or removed.
+ *
+ * @since 6.8.0
+ */
+public final class ChunkPlotCache {
+
+    private static final Map<String, ChunkPlotCache> CACHES = new ConcurrentHashMap<>();
+    private static final int MAX_CHUNKS = 1 << 16;
+    private static final Entry MIXED = new Entry(null, null);
+
+    private final String world;
+    private final ChunkEntryCache<Entry> chunks;
+
+    private ChunkPlotCache(final @NonNull String world) {
+        this.world = world;
+        this.chunks = new ChunkEntryCache<>(MAX_CHUNKS, this::classify);
+    }
+
+    /**
+     * Get the cache of a world
+     *
+     * @param world world name
+     * @return the cache of the world
+     */
+    public static @NonNull ChunkPlotCache of(final @NonNull String world) {
+        final ChunkPlotCache cache = CACHES.get(world);
+        if (cache != null) {
+            return cache;
+        }
+        return CACHES.computeIfAbsent(world, ChunkPlotCache::new);
+    }
+
+    /**
+     * Forget the plots and areas of all chunks in a world
+     *
+     * @param world world name
+     */
+    public static void invalidate(final @NonNull String world) {
+        final ChunkPlotCache cache = CACHES.get(world);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Forget the plots and areas of all chunks in all worlds
+     */
+    public static void invalidateAll() {
+        for (final ChunkPlotCache cache : CACHES.values()) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Get the plot area containing a position, like {@link Location#getPlotArea()}
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate
+     * @param z block z coordinate
+     * @return the plot area, or {@code null}
+     */
+    public @Nullable PlotArea getPlotArea(final int x, final int y, final int z) {
+        final Entry entry = this.getEntry(x, y, z);
+        if (entry != MIXED) {
+            return entry.area();
+        }
+        return PlotSquared.get().getPlotAreaManager().getPlotArea(Location.at(this.world, x, y, z));
+    }
+
+    /**
+     * Get the owned plot at a position, like {@link Location#getOwnedPlotAbs()}
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate
+     * @param z block z coordinate
+     * @return the plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlotAbs(final int x, final int y, final int z) {
+        final Entry entry = this.getEntry(x, y, z);
+        if (entry != MIXED) {
+            return entry.plot();
+        }
+        return Location.at(this.world, x, y, z).getOwnedPlotAbs();
+    }
+
+    /**
+     * Get the owned base plot at a position, like {@link Location#getOwnedPlot()}
+     *
+     * @param x block x coordinate
+     * @param y block y coordinate
+     * @param z block z coordinate
+     * @return the base plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlot(final int x, final int y, final int z) {
+        final Plot plot = this.getOwnedPlotAbs(x, y, z);
+        return plot == null ? null : plot.getBasePlot(false);
+    }
+
+    /**
+     * Get the owned plots containing at least one block column of a chunk
+     *
+     * @param chunkX chunk x coordinate
+     * @param chunkZ chunk z coordinate
+     * @return the plots, which may be part of merged plots
+     */
+    public @NonNull Set<Plot> getOwnedPlotsAbs(final int chunkX, final int chunkZ) {
+        final Entry entry = this.getEntry(chunkX << 4, 0, chunkZ << 4);
+        if (entry != MIXED) {
+            return entry.plot() == null ? Collections.emptySet() : Collections.singleton(entry.plot());
+        }
+        final Set<Plot> plots = new HashSet<>();
+        for (int x = chunkX << 4; x < (chunkX << 4) + 16; x++) {
+            for (int z = chunkZ << 4; z < (chunkZ << 4) + 16; z++) {
+                final Plot plot = Location.at(this.world, x, 0, z).getOwnedPlotAbs();
+                if (plot != null) {
+                    plots.add(plot);
+                }
+            }
+        }
+        return plots;
+    }
+
+    /**
+     * Get the number of times the cache of this world has been invalidated. Anything derived from the plots or areas
+     * of the world is still valid if this number has not changed since.
+     *
+     * @return invalidation count
+     */
+    public long getGeneration() {
+        return this.chunks.getGeneration();
+    }
+
+    private @NonNull Entry getEntry(final int x, final int y, final int z) {
+        return this.chunks.get(x, y, z);
+    }
+
+    private @NonNull Entry classify(final int chunkX, final int y, final int chunkZ) {
+        final PlotAreaManager plotAreaManager = PlotSquared.get().getPlotAreaManager();
+        PlotArea chunkArea = null;
+        Plot chunkPlot = null;
+        for (int x = chunkX << 4; x < (chunkX << 4) + 16; x++) {
+            for (int z = chunkZ << 4; z < (chunkZ << 4) + 16; z++) {
+                final Location location = Location.at(this.world, x, y, z);
+                final PlotArea area = plotAreaManager.getPlotArea(location);
+                final Plot plot = area == null ? null : area.getOwnedPlotAbs(location);
+                if (x == chunkX << 4 && z == chunkZ << 4) {
+                    chunkArea = area;
+                    chunkPlot = plot;
+                } else if (area != chunkArea || plot != chunkPlot) {
+                    return MIXED;
+                }
+            }
+        }
+        return new Entry(chunkArea, chunkPlot);
+    }
+
+    private void clear() {
+        this.chunks.clear();
+    }
+
+    private record Entry(@Nullable PlotArea area, @Nullable Plot plot) {
+
+    }
+
+}
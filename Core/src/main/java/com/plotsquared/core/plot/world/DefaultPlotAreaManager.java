@@ -77,6 +77,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
                 this.plotWorlds.remove(plotArea.getWorldName());
             } else {
                 world.addArea(plotArea);
+                ChunkPlotCache.invalidate(plotArea.getWorldName());
                 return;
             }
         }
@@ -87,6 +88,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
             world.addArea(plotArea);
         }
         this.plotWorlds.put(plotArea.getWorldName(), world);
+        ChunkPlotCache.invalidate(plotArea.getWorldName());
     }
 
     @Override
@@ -103,6 +105,7 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
                 this.plotWorlds.remove(world.getWorld());
             }
         }
+        ChunkPlotCache.invalidate(area.getWorldName());
     }
 
     @Override
@@ -153,11 +156,13 @@ public class DefaultPlotAreaManager implements PlotAreaManager {
         // the world will be re-recreated with the correct type
         world = new StandardPlotWorld(worldName, null);
         this.plotWorlds.put(worldName, world);
+        ChunkPlotCache.invalidate(worldName);
     }
 
     @Override
     public void removeWorld(final @NonNull String worldName) {
         this.plotWorlds.remove(worldName);
+        ChunkPlotCache.invalidate(worldName);
     }
 
     @Override
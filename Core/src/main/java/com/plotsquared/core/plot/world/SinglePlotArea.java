@@ -229,6 +229,7 @@ public class SinglePlotArea extends GridPlotWorld {
     @Override
     public Plot getOwnedPlot(final @NonNull Location location) {
         PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        ensureLoaded();
         Plot plot = pid == null ? null : this.plots.get(pid);
         return plot == null ? null : plot.getBasePlot(false);
     }
@@ -237,6 +238,7 @@ public class SinglePlotArea extends GridPlotWorld {
     @Override
     public Plot getOwnedPlotAbs(@NonNull Location location) {
         PlotId pid = PlotId.fromStringOrNull(location.getWorldName());
+        ensureLoaded();
         return pid == null ? null : plots.get(pid);
     }
 
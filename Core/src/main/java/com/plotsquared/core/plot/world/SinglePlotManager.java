@@ -60,6 +60,12 @@ public class SinglePlotManager extends PlotManager {
         return PlotId.of(0, 0);
     }
 
+    @Override
+    public @Nullable Plot getOwnedPlotAbs(int x, int y, int z) {
+        // The plot is determined by the world, not the position
+        return null;
+    }
+
     @Override
     public Location getPlotBottomLocAbs(final @NonNull PlotId plotId) {
         return Location.at(plotId.toUnderscoreSeparatedString(), -MAX_COORDINATE, 0, -MAX_COORDINATE);
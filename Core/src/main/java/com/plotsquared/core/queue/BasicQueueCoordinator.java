@@ -26,6 +26,7 @@
 package com.plotsquared.core.queue;
 
 import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.location.Location;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
 import com.plotsquared.core.util.PatternUtil;
 import com.sk89q.jnbt.CompoundTag;
@@ -33,7 +34,6 @@ import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.regions.CuboidRegion;
-import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.World;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
@@ -43,6 +43,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -136,6 +138,89 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         return true;
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        fillCuboid(pos1, pos2, block.toBaseBlock(), null);
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        if (blocks instanceof BaseBlock) {
+            fillCuboid(pos1, pos2, (BaseBlock) blocks, null);
+        } else if (blocks instanceof BlockState) {
+            fillCuboid(pos1, pos2, ((BlockState) blocks).toBaseBlock(), null);
+        } else {
+            fillCuboid(pos1, pos2, null, blocks);
+        }
+    }
+
+    @Override
+    public void setBiomeCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BiomeType biome) {
+        int yMin = Math.max(Math.min(pos1.getY(), pos2.getY()), world.getMinY());
+        int yMax = Math.min(Math.max(pos1.getY(), pos2.getY()), world.getMaxY());
+        int xMin = Math.min(pos1.getX(), pos2.getX());
+        int xMax = Math.max(pos1.getX(), pos2.getX());
+        int zMin = Math.min(pos1.getZ(), pos2.getZ());
+        int zMax = Math.max(pos1.getZ(), pos2.getZ());
+        if (yMin > yMax) {
+            return;
+        }
+        for (int cx = xMin >> 4; cx <= xMax >> 4; cx++) {
+            for (int cz = zMin >> 4; cz <= zMax >> 4; cz++) {
+                getChunk(cx, cz).fillBiomes(
+                        Math.max(xMin, cx << 4) & 15, yMin, Math.max(zMin, cz << 4) & 15,
+                        Math.min(xMax, (cx << 4) + 15) & 15, yMax, Math.min(zMax, (cz << 4) + 15) & 15,
+                        biome
+                );
+            }
+        }
+        settingBiomes = true;
+    }
+
+    /**
+     * Fill a cuboid chunk by chunk, so that sections covered by a single block are filled as a whole and the
+     * chunk is only looked up once per column of the cuboid
+     *
+     * @param block   block to fill the cuboid with, or {@code null} to apply the pattern
+     * @param pattern pattern to apply at every position if no block is given
+     */
+    private void fillCuboid(
+            final @NonNull Location pos1,
+            final @NonNull Location pos2,
+            final @Nullable BaseBlock block,
+            final @Nullable Pattern pattern
+    ) {
+        int yMin = Math.max(Math.min(pos1.getY(), pos2.getY()), world.getMinY());
+        int yMax = Math.min(Math.max(pos1.getY(), pos2.getY()), world.getMaxY());
+        int xMin = Math.min(pos1.getX(), pos2.getX());
+        int xMax = Math.max(pos1.getX(), pos2.getX());
+        int zMin = Math.min(pos1.getZ(), pos2.getZ());
+        int zMax = Math.max(pos1.getZ(), pos2.getZ());
+        if (yMin > yMax) {
+            return;
+        }
+        for (int cx = xMin >> 4; cx <= xMax >> 4; cx++) {
+            for (int cz = zMin >> 4; cz <= zMax >> 4; cz++) {
+                LocalChunk chunk = getChunk(cx, cz);
+                int fromX = Math.max(xMin, cx << 4);
+                int toX = Math.min(xMax, (cx << 4) + 15);
+                int fromZ = Math.max(zMin, cz << 4);
+                int toZ = Math.min(zMax, (cz << 4) + 15);
+                if (block != null) {
+                    chunk.fillBlocks(fromX & 15, yMin, fromZ & 15, toX & 15, yMax, toZ & 15, block);
+                    continue;
+                }
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = fromX; x <= toX; x++) {
+                        for (int z = fromZ; z <= toZ; z++) {
+                            chunk.setBlock(x & 15, y, z & 15, PatternUtil.apply(pattern, x, y, z));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public boolean isSettingBiomes() {
         return this.settingBiomes;
@@ -159,7 +244,7 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         if (entity.getState() == null || entity.getState().getType() == EntityTypes.PLAYER) {
             return false;
         }
-        Location location = entity.getLocation();
+        com.sk89q.worldedit.util.Location location = entity.getLocation();
         LocalChunk chunk = getChunk(location.getBlockX() >> 4, location.getBlockZ() >> 4);
         chunk.setEntity(location, entity.getState());
         return true;
@@ -213,6 +298,22 @@ public abstract class BasicQueueCoordinator extends QueueCoordinator {
         }
     }
 
+    @Override
+    protected @NonNull Collection<BlockVector2> getModifiedChunks() {
+        final Set<BlockVector2> chunks = new HashSet<>(this.blockChunks.keySet());
+        if (this.regen && this.regenStart != null) {
+            for (int x = this.regenStart[0]; x <= this.regenEnd[0]; x++) {
+                for (int z = this.regenStart[1]; z <= this.regenEnd[1]; z++) {
+                    chunks.add(BlockVector2.at(x, z));
+                }
+            }
+        }
+        if (this.regenRegion != null) {
+            chunks.addAll(this.regenRegion.getChunks());
+        }
+        return chunks;
+    }
+
     @Override
     public boolean isUnloadAfter() {
         return this.unloadAfter;
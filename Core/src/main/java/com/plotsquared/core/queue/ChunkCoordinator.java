@@ -40,6 +40,34 @@ public abstract class ChunkCoordinator implements Runnable {
      */
     public abstract void cancel();
 
+    /**
+     * Pause the chunk coordinator. Chunks that have been loaded already stay loaded until it is resumed.
+     * Does nothing unless the implementation supports pausing.
+     *
+     * @since 6.8.0
+     */
+    public void pause() {
+    }
+
+    /**
+     * Resume the chunk coordinator after it was paused.
+     * Does nothing unless the implementation supports pausing.
+     *
+     * @since 6.8.0
+     */
+    public void resume() {
+    }
+
+    /**
+     * Get whether the chunk coordinator is paused
+     *
+     * @return if the coordinator is paused, always {@code false} unless the implementation supports pausing
+     * @since 6.8.0
+     */
+    public boolean isPaused() {
+        return false;
+    }
+
     /**
      * Get the amount of remaining chunks (at the time of the method call)
      *
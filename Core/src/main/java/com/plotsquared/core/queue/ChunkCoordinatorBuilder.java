@@ -27,6 +27,7 @@ package com.plotsquared.core.queue;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
+import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.inject.factory.ChunkCoordinatorFactory;
 import com.plotsquared.core.location.Location;
@@ -58,6 +59,8 @@ public class ChunkCoordinatorBuilder {
     private long maxIterationTime = Settings.QUEUE.MAX_ITERATION_TIME; // A little over 1 tick;
     private int initialBatchSize = Settings.QUEUE.INITIAL_BATCH_SIZE;
     private boolean unloadAfter = true;
+    private QueuePriority priority = QueuePriority.NORMAL;
+    private QueueCoordinator queue;
 
     @Inject
     public ChunkCoordinatorBuilder(@NonNull ChunkCoordinatorFactory chunkCoordinatorFactory) {
@@ -197,6 +200,30 @@ public class ChunkCoordinatorBuilder {
         return this;
     }
 
+    /**
+     * Set the priority of the chunk coordinator relative to other running coordinators
+     *
+     * @param priority priority
+     * @return this ChunkCoordinatorBuilder instance
+     * @since 6.8.0
+     */
+    public @NonNull ChunkCoordinatorBuilder withPriority(final @NonNull QueuePriority priority) {
+        this.priority = Preconditions.checkNotNull(priority, "Priority may not be null");
+        return this;
+    }
+
+    /**
+     * Set the queue whose blocks the chunk coordinator writes, so that its job can report the written blocks
+     *
+     * @param queue queue coordinator
+     * @return this ChunkCoordinatorBuilder instance
+     * @since 6.8.0
+     */
+    public @NonNull ChunkCoordinatorBuilder forQueue(final @NonNull QueueCoordinator queue) {
+        this.queue = Preconditions.checkNotNull(queue, "Queue may not be null");
+        return this;
+    }
+
     public @NonNull ChunkCoordinatorBuilder withProgressSubscriber(ProgressSubscriber progressSubscriber) {
         this.progressSubscribers.add(progressSubscriber);
         return this;
@@ -217,6 +244,8 @@ public class ChunkCoordinatorBuilder {
         Preconditions.checkNotNull(this.chunkConsumer, "No chunk consumer was supplied");
         Preconditions.checkNotNull(this.whenDone, "No final action was supplied");
         Preconditions.checkNotNull(this.throwableConsumer, "No throwable consumer was supplied");
+        final QueueJob job = PlotSquared.platform().globalBlockQueue().createJob(this.world.getName(), this.priority, this.queue);
+        this.progressSubscribers.add(job);
         return chunkCoordinatorFactory
                 .create(
                         this.maxIterationTime,
@@ -227,7 +256,8 @@ public class ChunkCoordinatorBuilder {
                         this.whenDone,
                         this.throwableConsumer,
                         this.unloadAfter,
-                        this.progressSubscribers
+                        this.progressSubscribers,
+                        this.priority
                 );
     }
 
@@ -26,11 +26,25 @@
 package com.plotsquared.core.queue;
 
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
+import com.sk89q.worldedit.math.BlockVector2;
 import com.sk89q.worldedit.world.World;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GlobalBlockQueue {
 
+    private final Map<Integer, QueueJob> jobs = new ConcurrentSkipListMap<>();
+    private final AtomicInteger nextJobId = new AtomicInteger();
+    private final AtomicInteger loadingChunks = new AtomicInteger();
+    private final Collection<QueueWriteListener> writeListeners = new CopyOnWriteArrayList<>();
     private QueueProvider provider;
 
     public GlobalBlockQueue(@NonNull QueueProvider provider) {
@@ -50,6 +64,107 @@ public class GlobalBlockQueue {
         return queue;
     }
 
+    /**
+     * Create a job for a chunk coordinator that is about to be created. The job must be added to the progress
+     * subscribers of the coordinator, it is then tracked from the moment the coordinator starts until it has finished.
+     *
+     * @param world    name of the world the coordinator works in
+     * @param priority priority of the coordinator
+     * @param queue    queue whose blocks the coordinator writes, if any
+     * @return new job
+     * @since 6.8.0
+     */
+    public @NonNull QueueJob createJob(
+            @NonNull String world,
+            @NonNull QueuePriority priority,
+            @Nullable QueueCoordinator queue
+    ) {
+        return new QueueJob(nextJobId.incrementAndGet(), this, world, priority, queue);
+    }
+
+    /**
+     * Register a listener that is notified about the chunks of every queue that writes blocks through a tracked job
+     *
+     * @param listener listener to register
+     * @since 6.8.0
+     */
+    public void registerWriteListener(@NonNull QueueWriteListener listener) {
+        this.writeListeners.add(listener);
+    }
+
+    void notifyWrite(@NonNull String world, @NonNull Collection<BlockVector2> chunks) {
+        for (final QueueWriteListener listener : this.writeListeners) {
+            listener.notifyWrite(world, chunks);
+        }
+    }
+
+    void addJob(@NonNull QueueJob job) {
+        this.jobs.put(job.getId(), job);
+    }
+
+    void removeJob(@NonNull QueueJob job) {
+        this.jobs.remove(job.getId());
+    }
+
+    /**
+     * Get the jobs that are currently running, ordered by id
+     *
+     * @return unmodifiable view of the running jobs
+     * @since 6.8.0
+     */
+    public @NonNull Collection<QueueJob> getJobs() {
+        return Collections.unmodifiableCollection(this.jobs.values());
+    }
+
+    /**
+     * Get a running job by its id
+     *
+     * @param id job id
+     * @return the job, or {@code null} if no job with the id is running
+     * @since 6.8.0
+     */
+    public @Nullable QueueJob getJob(int id) {
+        return this.jobs.get(id);
+    }
+
+    /**
+     * Try to reserve one of the chunk loads that may be in progress at the same time across all jobs, see
+     * {@link Settings.QUEUE#MAX_LOADING_CHUNKS}. A successful reservation must be released with
+     * {@link #releaseChunkLoad()} once the chunk has loaded.
+     *
+     * @return {@code true} if the chunk may be loaded now
+     * @since 6.8.0
+     */
+    public boolean tryAcquireChunkLoad() {
+        int loading;
+        do {
+            loading = this.loadingChunks.get();
+            if (loading >= Settings.QUEUE.MAX_LOADING_CHUNKS) {
+                return false;
+            }
+        } while (!this.loadingChunks.compareAndSet(loading, loading + 1));
+        return true;
+    }
+
+    /**
+     * Release a chunk load reserved with {@link #tryAcquireChunkLoad()}
+     *
+     * @since 6.8.0
+     */
+    public void releaseChunkLoad() {
+        this.loadingChunks.decrementAndGet();
+    }
+
+    /**
+     * Get the amount of chunks currently being loaded by jobs
+     *
+     * @return loading chunk count
+     * @since 6.8.0
+     */
+    public int getLoadingChunks() {
+        return this.loadingChunks.get();
+    }
+
     public QueueProvider getProvider() {
         return this.provider;
     }
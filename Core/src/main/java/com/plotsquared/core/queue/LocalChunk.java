@@ -34,6 +34,7 @@ import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 
@@ -44,19 +45,20 @@ public class LocalChunk {
     private final int z;
     private final int minSection;
 
-    private final BaseBlock[][] baseblocks;
-    private final BiomeType[][] biomes;
+    private final PaletteSection<BaseBlock>[] blockSections;
+    private final PaletteSection<BiomeType>[] biomeSections;
     private final HashMap<BlockVector3, CompoundTag> tiles = new HashMap<>();
     private final HashMap<Location, BaseEntity> entities = new HashMap<>();
 
+    @SuppressWarnings("unchecked")
     public LocalChunk(@NonNull QueueCoordinator parent, int x, int z) {
         this.parent = parent;
         this.x = x;
         this.z = z;
         this.minSection = parent.getMinLayer();
         int sections = parent.getMaxLayer() - parent.getMinLayer() + 1;
-        baseblocks = new BaseBlock[sections][];
-        biomes = new BiomeType[sections][];
+        blockSections = new PaletteSection[sections];
+        biomeSections = new PaletteSection[sections];
     }
 
     public @NonNull QueueCoordinator getParent() {
@@ -80,12 +82,76 @@ public class LocalChunk {
         return this.minSection;
     }
 
+    /**
+     * Get a copy of the blocks in the chunk, as an array of 4096 blocks per section. Changes to the
+     * arrays aren't written back.
+     *
+     * @deprecated Copies every section. Use {@link #getBlockSections()}
+     */
+    @Deprecated(forRemoval = true, since = "6.8.0")
     public @NonNull BaseBlock[][] getBaseblocks() {
-        return this.baseblocks;
+        final BaseBlock[][] baseblocks = new BaseBlock[this.blockSections.length][];
+        for (int i = 0; i < this.blockSections.length; i++) {
+            if (this.blockSections[i] != null) {
+                final BaseBlock[] array = baseblocks[i] = new BaseBlock[PaletteSection.SIZE];
+                this.blockSections[i].forEach((j, block) -> array[j] = block);
+            }
+        }
+        return baseblocks;
     }
 
+    /**
+     * Get a copy of the biomes in the chunk, as an array of 4096 biomes per section. Changes to the
+     * arrays aren't written back.
+     *
+     * @deprecated Copies every section. Use {@link #getBiomeSections()}
+     */
+    @Deprecated(forRemoval = true, since = "6.8.0")
     public @NonNull BiomeType[][] getBiomes() {
-        return this.biomes;
+        final BiomeType[][] biomes = new BiomeType[this.biomeSections.length][];
+        for (int i = 0; i < this.biomeSections.length; i++) {
+            if (this.biomeSections[i] != null) {
+                final BiomeType[] array = biomes[i] = new BiomeType[PaletteSection.SIZE];
+                this.biomeSections[i].forEach((j, biome) -> array[j] = biome);
+            }
+        }
+        return biomes;
+    }
+
+    /**
+     * Get the block sections of the chunk, indexed from {@link #getMinSection()}. Sections without any
+     * block set are {@code null}.
+     *
+     * @return block sections
+     * @since 6.8.0
+     */
+    public @NonNull PaletteSection<BaseBlock>[] getBlockSections() {
+        return this.blockSections;
+    }
+
+    /**
+     * Get the biome sections of the chunk, indexed from {@link #getMinSection()}. Sections without any
+     * biome set are {@code null}.
+     *
+     * @return biome sections
+     * @since 6.8.0
+     */
+    public @NonNull PaletteSection<BiomeType>[] getBiomeSections() {
+        return this.biomeSections;
+    }
+
+    /**
+     * Get the block set at a position in the chunk
+     *
+     * @param x relative x coordinate
+     * @param y y coordinate
+     * @param z relative z coordinate
+     * @return the block, or {@code null} if none is set
+     * @since 6.8.0
+     */
+    public @Nullable BaseBlock getBlock(final int x, final int y, final int z) {
+        final PaletteSection<BaseBlock> section = this.blockSections[getLayerIndex(y)];
+        return section == null ? null : section.get(ChunkUtil.getJ(x, y, z));
     }
 
     public @NonNull HashMap<BlockVector3, CompoundTag> getTiles() {
@@ -95,11 +161,11 @@ public class LocalChunk {
     public void setBiome(final int x, final int y, final int z, final @NonNull BiomeType biomeType) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BiomeType[] array = this.biomes[i];
-        if (array == null) {
-            array = this.biomes[i] = new BiomeType[4096];
+        PaletteSection<BiomeType> section = this.biomeSections[i];
+        if (section == null) {
+            section = this.biomeSections[i] = new PaletteSection<>();
         }
-        array[j] = biomeType;
+        section.set(j, biomeType);
     }
 
     @Override
@@ -110,11 +176,80 @@ public class LocalChunk {
     public void setBlock(final int x, final int y, final int z, final @NonNull BaseBlock baseBlock) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BaseBlock[] array = baseblocks[i];
-        if (array == null) {
-            array = (baseblocks[i] = new BaseBlock[4096]);
+        PaletteSection<BaseBlock> section = blockSections[i];
+        if (section == null) {
+            section = (blockSections[i] = new PaletteSection<>());
+        }
+        section.set(j, baseBlock);
+    }
+
+    /**
+     * Fill a cuboid of the chunk with a block. Sections that are covered completely are filled as a whole.
+     *
+     * @param minX  minimum relative x coordinate (0 - 15)
+     * @param minY  minimum y coordinate
+     * @param minZ  minimum relative z coordinate (0 - 15)
+     * @param maxX  maximum relative x coordinate (0 - 15), inclusive
+     * @param maxY  maximum y coordinate, inclusive
+     * @param maxZ  maximum relative z coordinate (0 - 15), inclusive
+     * @param block block to fill the cuboid with
+     * @since 6.8.0
+     */
+    public void fillBlocks(
+            final int minX, final int minY, final int minZ,
+            final int maxX, final int maxY, final int maxZ,
+            final @NonNull BaseBlock block
+    ) {
+        fill(this.blockSections, minX, minY, minZ, maxX, maxY, maxZ, block);
+    }
+
+    /**
+     * Fill a cuboid of the chunk with a biome. Sections that are covered completely are filled as a whole.
+     *
+     * @param minX  minimum relative x coordinate (0 - 15)
+     * @param minY  minimum y coordinate
+     * @param minZ  minimum relative z coordinate (0 - 15)
+     * @param maxX  maximum relative x coordinate (0 - 15), inclusive
+     * @param maxY  maximum y coordinate, inclusive
+     * @param maxZ  maximum relative z coordinate (0 - 15), inclusive
+     * @param biome biome to fill the cuboid with
+     * @since 6.8.0
+     */
+    public void fillBiomes(
+            final int minX, final int minY, final int minZ,
+            final int maxX, final int maxY, final int maxZ,
+            final @NonNull BiomeType biome
+    ) {
+        fill(this.biomeSections, minX, minY, minZ, maxX, maxY, maxZ, biome);
+    }
+
+    private <T> void fill(
+            final @NonNull PaletteSection<T>[] sections,
+            final int minX, final int minY, final int minZ,
+            final int maxX, final int maxY, final int maxZ,
+            final @NonNull T value
+    ) {
+        final boolean fullColumn = minX == 0 && minZ == 0 && maxX == 15 && maxZ == 15;
+        for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+            final int i = sectionY - this.minSection;
+            PaletteSection<T> section = sections[i];
+            if (section == null) {
+                section = sections[i] = new PaletteSection<>();
+            }
+            final int fromY = Math.max(minY, sectionY << 4);
+            final int toY = Math.min(maxY, (sectionY << 4) + 15);
+            if (fullColumn && (fromY & 15) == 0 && (toY & 15) == 15) {
+                section.fill(value);
+                continue;
+            }
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        section.set(ChunkUtil.getJ(x, y, z), value);
+                    }
+                }
+            }
         }
-        array[j] = baseBlock;
     }
 
     public void setTile(final int x, final int y, final int z, final @NonNull CompoundTag tag) {
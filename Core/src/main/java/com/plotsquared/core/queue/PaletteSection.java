@@ -0,0 +1,309 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Values of a 16x16x16 chunk section, indexed like {@link com.plotsquared.core.util.ChunkUtil#getJ(int, int, int)}.
+ * A section that holds a single value (including no value at all) needs no storage per position; otherwise the
+ * positions store indices into a palette of the distinct values, packed into as few bits as the palette allows.
+ * Once every position holds the same value again, the section drops its palette. Unset positions hold {@code null}.
+ *
+ * @param <T> value type
+ * @since 6.8.0
+ */
+public final class PaletteSection<T> {
+
+    /**
+     * Number of positions in a section
+     */
+    public static final int SIZE = 4096;
+
+    private static final int MAX_BITS = 16;
+    // Palettes larger than this are indexed by a map instead of being searched
+    private static final int LINEAR_SEARCH_LIMIT = 16;
+
+    private T uniform;
+    private int bits;
+    private long[] data;
+    private Object[] palette;
+    // Number of positions using each palette entry
+    private int[] counts;
+    private int paletteSize;
+    private Map<Object, Integer> paletteIndex;
+
+    /**
+     * Get the value at a position
+     *
+     * @param index position index
+     * @return value, or {@code null} if unset
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(final int index) {
+        if (this.bits == 0) {
+            return this.uniform;
+        }
+        return (T) this.palette[read(index)];
+    }
+
+    /**
+     * Set the value at a position
+     *
+     * @param index position index
+     * @param value value, or {@code null} to unset it
+     */
+    public void set(final int index, final @Nullable T value) {
+        if (this.bits == 0) {
+            if (Objects.equals(this.uniform, value)) {
+                return;
+            }
+            this.bits = 1;
+            this.data = new long[SIZE / Long.SIZE];
+            this.palette = new Object[]{this.uniform, value};
+            this.counts = new int[]{SIZE - 1, 1};
+            this.paletteSize = 2;
+            this.uniform = null;
+            write(index, 1);
+            return;
+        }
+        final int paletteIndex = paletteIndexOf(value);
+        // Read after looking up the value, as that may have compacted the palette
+        final int previous = read(index);
+        if (previous == paletteIndex) {
+            return;
+        }
+        write(index, paletteIndex);
+        this.counts[previous]--;
+        if (++this.counts[paletteIndex] == SIZE) {
+            fill(value);
+        }
+    }
+
+    /**
+     * Set all positions to the same value. This drops the palette.
+     *
+     * @param value value, or {@code null} to unset all positions
+     */
+    public void fill(final @Nullable T value) {
+        this.uniform = value;
+        this.bits = 0;
+        this.data = null;
+        this.palette = null;
+        this.counts = null;
+        this.paletteSize = 0;
+        this.paletteIndex = null;
+    }
+
+    /**
+     * Get whether all positions hold the same value, which is the case until a second value is set, once all
+     * positions have been set to the same value and after {@link #fill(Object)}
+     *
+     * @return {@code true} if the section is uniform
+     */
+    public boolean isUniform() {
+        return this.bits == 0;
+    }
+
+    /**
+     * Get the value every position holds
+     *
+     * @return value, or {@code null} if the section is not uniform or unset
+     */
+    public @Nullable T getUniform() {
+        return this.bits == 0 ? this.uniform : null;
+    }
+
+    /**
+     * Get whether no position is set
+     *
+     * @return {@code true} if every position is unset
+     */
+    public boolean isEmpty() {
+        if (this.bits == 0) {
+            return this.uniform == null;
+        }
+        for (int i = 0; i < SIZE; i++) {
+            if (this.palette[read(i)] != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Pass every set position and its value to a consumer, in index order
+     *
+     * @param consumer consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final @NonNull EntryConsumer<? super T> consumer) {
+        if (this.bits == 0) {
+            if (this.uniform != null) {
+                for (int i = 0; i < SIZE; i++) {
+                    consumer.accept(i, this.uniform);
+                }
+            }
+            return;
+        }
+        final int perLong = Long.SIZE / this.bits;
+        final long mask = (1L << this.bits) - 1;
+        int index = 0;
+        for (final long word : this.data) {
+            for (int i = 0; i < perLong; i++, index++) {
+                final Object value = this.palette[(int) ((word >>> (i * this.bits)) & mask)];
+                if (value != null) {
+                    consumer.accept(index, (T) value);
+                }
+            }
+        }
+    }
+
+    private int read(final int index) {
+        final int perLong = Long.SIZE / this.bits;
+        final int shift = (index % perLong) * this.bits;
+        return (int) ((this.data[index / perLong] >>> shift) & ((1L << this.bits) - 1));
+    }
+
+    private void write(final int index, final int paletteIndex) {
+        final int perLong = Long.SIZE / this.bits;
+        final int shift = (index % perLong) * this.bits;
+        final long mask = ((1L << this.bits) - 1) << shift;
+        final int word = index / perLong;
+        this.data[word] = (this.data[word] & ~mask) | (((long) paletteIndex << shift) & mask);
+    }
+
+    private int paletteIndexOf(final @Nullable Object value) {
+        if (this.paletteIndex != null) {
+            final Integer index = this.paletteIndex.get(value);
+            if (index != null) {
+                return index;
+            }
+        } else {
+            for (int i = 0; i < this.paletteSize; i++) {
+                if (Objects.equals(this.palette[i], value)) {
+                    return i;
+                }
+            }
+        }
+        if (this.paletteSize == 1 << this.bits) {
+            if (this.bits == MAX_BITS) {
+                compact();
+            } else {
+                resize(this.bits << 1);
+            }
+        }
+        if (this.paletteSize == this.palette.length) {
+            final Object[] palette = new Object[this.palette.length << 1];
+            System.arraycopy(this.palette, 0, palette, 0, this.paletteSize);
+            this.palette = palette;
+            final int[] counts = new int[palette.length];
+            System.arraycopy(this.counts, 0, counts, 0, this.paletteSize);
+            this.counts = counts;
+        }
+        final int index = this.paletteSize++;
+        this.palette[index] = value;
+        if (this.paletteIndex != null) {
+            this.paletteIndex.put(value, index);
+        } else if (this.paletteSize > LINEAR_SEARCH_LIMIT) {
+            this.paletteIndex = new HashMap<>();
+            for (int i = 0; i < this.paletteSize; i++) {
+                this.paletteIndex.put(this.palette[i], i);
+            }
+        }
+        return index;
+    }
+
+    private void resize(final int bits) {
+        final int[] indices = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            indices[i] = read(i);
+        }
+        this.bits = bits;
+        this.data = new long[SIZE / (Long.SIZE / bits)];
+        for (int i = 0; i < SIZE; i++) {
+            write(i, indices[i]);
+        }
+    }
+
+    /**
+     * Drop the palette entries no position uses anymore. The palette only grows while values are
+     * overwritten, so this is needed once it can't grow any further.
+     */
+    private void compact() {
+        final int[] remap = new int[this.paletteSize];
+        final int[] indices = new int[SIZE];
+        final Object[] palette = new Object[SIZE];
+        final int[] counts = new int[SIZE];
+        int size = 0;
+        for (int i = 0; i < SIZE; i++) {
+            final int old = read(i);
+            if (remap[old] == 0) {
+                palette[size] = this.palette[old];
+                remap[old] = ++size;
+            }
+            indices[i] = remap[old] - 1;
+            counts[indices[i]]++;
+        }
+        this.palette = palette;
+        this.counts = counts;
+        this.paletteSize = size;
+        this.paletteIndex = null;
+        if (size > LINEAR_SEARCH_LIMIT) {
+            this.paletteIndex = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                this.paletteIndex.put(palette[i], i);
+            }
+        }
+        for (int i = 0; i < SIZE; i++) {
+            write(i, indices[i]);
+        }
+    }
+
+    /**
+     * Consumer of the set positions of a section
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<T> {
+
+        /**
+         * Accept a set position
+         *
+         * @param index position index
+         * @param value value at the position
+         */
+        void accept(int index, @NonNull T value);
+
+    }
+
+}
@@ -45,6 +45,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -52,6 +54,7 @@ import java.util.function.Consumer;
 public abstract class QueueCoordinator {
 
     private boolean forceSync = false;
+    private QueuePriority priority = QueuePriority.NORMAL;
     @Nullable
     private Object chunkObject;
     private final AtomicBoolean enqueued = new AtomicBoolean();
@@ -133,6 +136,26 @@ public abstract class QueueCoordinator {
         this.forceSync = forceSync;
     }
 
+    /**
+     * Get the priority the queue's chunks are processed with
+     *
+     * @return queue priority
+     * @since 6.8.0
+     */
+    public @NonNull QueuePriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the priority the queue's chunks are processed with, relative to other queues running at the same time
+     *
+     * @param priority queue priority
+     * @since 6.8.0
+     */
+    public void setPriority(@NonNull QueuePriority priority) {
+        this.priority = priority;
+    }
+
     /**
      * Get the Chunk Object set to the queue
      *
@@ -356,6 +379,17 @@ public abstract class QueueCoordinator {
         return success;
     }
 
+    /**
+     * Get the chunks this queue writes blocks to or regenerates once it is enqueued. Passed to the
+     * {@link QueueWriteListener write listeners} when the job of the queue starts and finishes.
+     *
+     * @return chunk coordinates, empty if the queue only reads chunks or does not track them
+     * @since 6.8.0
+     */
+    protected @NonNull Collection<BlockVector2> getModifiedChunks() {
+        return Collections.emptySet();
+    }
+
     /**
      * Start the queue
      */
@@ -413,6 +447,26 @@ public abstract class QueueCoordinator {
      */
     public abstract void setLightingMode(@Nullable LightingMode mode);
 
+    /**
+     * Get the number of blocks this queue has written to the world so far
+     *
+     * @return written block count, or {@code 0} if the implementation does not track it
+     * @since 6.8.0
+     */
+    public long getWrittenBlocks() {
+        return 0;
+    }
+
+    /**
+     * Get the number of queued blocks that were not written to the world because the world already contained them
+     *
+     * @return skipped block count, or {@code 0} if the implementation does not track it
+     * @since 6.8.0
+     */
+    public long getSkippedBlocks() {
+        return 0;
+    }
+
     /**
      * Fill a cuboid between two positions with a BlockState
      *
@@ -0,0 +1,237 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
+import com.sk89q.worldedit.math.BlockVector2;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A {@link ChunkCoordinator} tracked by the {@link GlobalBlockQueue} while it is running. Subscribes to the progress of the
+ * coordinator and adds itself to the queue once the coordinator has started and removes itself once it has finished.
+ *
+ * @since 6.8.0
+ */
+public final class QueueJob implements ProgressSubscriber {
+
+    private final int id;
+    private final GlobalBlockQueue blockQueue;
+    private final String world;
+    private final QueuePriority priority;
+    private final QueueCoordinator queue;
+    private volatile long started;
+    private volatile ChunkCoordinator coordinator;
+    private volatile Collection<BlockVector2> modifiedChunks;
+    private volatile double progress;
+
+    QueueJob(
+            final int id,
+            final @NonNull GlobalBlockQueue blockQueue,
+            final @NonNull String world,
+            final @NonNull QueuePriority priority,
+            final @Nullable QueueCoordinator queue
+    ) {
+        this.id = id;
+        this.blockQueue = blockQueue;
+        this.world = world;
+        this.priority = priority;
+        this.queue = queue;
+    }
+
+    /**
+     * Get the id of the job, unique while the server is running
+     *
+     * @return job id
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Get the name of the world the job is working in
+     *
+     * @return world name
+     */
+    public @NonNull String getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Get the priority of the job
+     *
+     * @return job priority
+     */
+    public @NonNull QueuePriority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Get the last progress notified by the coordinator
+     *
+     * @return progress in the range [0, 1]
+     */
+    public double getProgress() {
+        return this.progress;
+    }
+
+    /**
+     * Get the amount of chunks the job has left to process
+     *
+     * @return remaining chunk count
+     */
+    public int getRemainingChunks() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        return coordinator == null ? 0 : coordinator.getRemainingChunks();
+    }
+
+    /**
+     * Get the amount of chunks the job was started with
+     *
+     * @return total chunk count
+     */
+    public int getTotalChunks() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        return coordinator == null ? 0 : coordinator.getTotalChunks();
+    }
+
+    /**
+     * Get the average amount of chunks processed per second since the job was started
+     *
+     * @return chunks per second
+     */
+    public double getThroughput() {
+        final long started = this.started;
+        final long elapsed = System.currentTimeMillis() - started;
+        if (started == 0 || elapsed <= 0) {
+            return 0;
+        }
+        return (getTotalChunks() - getRemainingChunks()) * 1000D / elapsed;
+    }
+
+    /**
+     * Get the estimated time until the job has finished, based on its throughput so far
+     *
+     * @return estimated time remaining in milliseconds, or {@code -1} if nothing has been processed yet
+     */
+    public long getEstimatedTimeRemaining() {
+        final double throughput = getThroughput();
+        if (throughput <= 0) {
+            return -1;
+        }
+        return (long) (getRemainingChunks() * 1000D / throughput);
+    }
+
+    /**
+     * Get the number of blocks the job has written to the world so far
+     *
+     * @return written block count, or {@code 0} if the job does not write blocks of a tracking queue
+     */
+    public long getWrittenBlocks() {
+        return this.queue == null ? 0 : this.queue.getWrittenBlocks();
+    }
+
+    /**
+     * Get the number of blocks the job did not write to the world because the world already contained them
+     *
+     * @return skipped block count, or {@code 0} if the job does not write blocks of a tracking queue
+     */
+    public long getSkippedBlocks() {
+        return this.queue == null ? 0 : this.queue.getSkippedBlocks();
+    }
+
+    /**
+     * Get whether the job is paused
+     *
+     * @return if the job is paused
+     */
+    public boolean isPaused() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        return coordinator != null && coordinator.isPaused();
+    }
+
+    /**
+     * Stop processing chunks until the job is resumed
+     */
+    public void pause() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        if (coordinator != null) {
+            coordinator.pause();
+        }
+    }
+
+    /**
+     * Resume processing chunks after the job has been paused
+     */
+    public void resume() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        if (coordinator != null) {
+            coordinator.resume();
+        }
+    }
+
+    /**
+     * Cancel the job
+     */
+    public void cancel() {
+        final ChunkCoordinator coordinator = this.coordinator;
+        if (coordinator != null) {
+            coordinator.cancel();
+        }
+    }
+
+    @Override
+    public void notifyStart(final @NonNull ChunkCoordinator coordinator) {
+        this.coordinator = coordinator;
+        this.started = System.currentTimeMillis();
+        this.blockQueue.addJob(this);
+        if (this.queue != null && this.queue.getWorld() != null) {
+            final Collection<BlockVector2> chunks = this.queue.getModifiedChunks();
+            if (!chunks.isEmpty()) {
+                this.modifiedChunks = chunks;
+                this.blockQueue.notifyWrite(this.world, chunks);
+            }
+        }
+    }
+
+    @Override
+    public void notifyProgress(final @NonNull ChunkCoordinator coordinator, final double progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void notifyEnd() {
+        // Anything read from the chunks while the blocks were written is outdated as well
+        final Collection<BlockVector2> chunks = this.modifiedChunks;
+        if (chunks != null) {
+            this.blockQueue.notifyWrite(this.world, chunks);
+        }
+        this.blockQueue.removeJob(this);
+    }
+
+}
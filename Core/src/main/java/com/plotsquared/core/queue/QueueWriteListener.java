@@ -0,0 +1,50 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.sk89q.worldedit.math.BlockVector2;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collection;
+
+/**
+ * Notified about the chunks queues write to, see {@link GlobalBlockQueue#registerWriteListener(QueueWriteListener)}
+ *
+ * @since 6.8.0
+ */
+@FunctionalInterface
+public interface QueueWriteListener {
+
+    /**
+     * Notify the listener that a queue writes to chunks. This is called once when the queue starts writing and once
+     * more when it has finished, so that anything read from the chunks in between can be recognised as outdated.
+     *
+     * @param world  name of the world the queue writes to
+     * @param chunks chunks the queue writes blocks to or regenerates
+     */
+    void notifyWrite(@NonNull String world, @NonNull Collection<BlockVector2> chunks);
+
+}
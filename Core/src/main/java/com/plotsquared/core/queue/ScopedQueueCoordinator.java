@@ -113,6 +113,52 @@ public class ScopedQueueCoordinator extends DelegateQueueCoordinator {
         );
     }
 
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull BlockState block) {
+        final Location[] cuboid = toParentCuboid(pos1, pos2);
+        if (cuboid == null) {
+            super.setCuboid(pos1, pos2, block);
+        } else if (cuboid.length == 2) {
+            getParent().setCuboid(cuboid[0], cuboid[1], block);
+        }
+    }
+
+    @Override
+    public void setCuboid(@NonNull Location pos1, @NonNull Location pos2, @NonNull Pattern blocks) {
+        final Location[] cuboid = toParentCuboid(pos1, pos2);
+        if (cuboid == null) {
+            super.setCuboid(pos1, pos2, blocks);
+        } else if (cuboid.length == 2) {
+            getParent().setCuboid(cuboid[0], cuboid[1], blocks);
+        }
+    }
+
+    /**
+     * Clip a cuboid to the scope and translate it to the coordinates of the parent queue, so that the parent
+     * can fill it as a whole.
+     *
+     * @return the corners of the cuboid in the parent queue, an empty array if the cuboid is outside the scope,
+     *         or {@code null} if there is no parent to pass the cuboid to
+     */
+    private @Nullable Location[] toParentCuboid(@NonNull Location pos1, @NonNull Location pos2) {
+        if (getParent() == null) {
+            return null;
+        }
+        int fromX = Math.max(Math.min(pos1.getX(), pos2.getX()), 0);
+        int fromY = Math.max(Math.min(pos1.getY(), pos2.getY()), 0);
+        int fromZ = Math.max(Math.min(pos1.getZ(), pos2.getZ()), 0);
+        int toX = Math.min(Math.max(pos1.getX(), pos2.getX()), dx);
+        int toY = Math.min(Math.max(pos1.getY(), pos2.getY()), dy);
+        int toZ = Math.min(Math.max(pos1.getZ(), pos2.getZ()), dz);
+        if (fromX > toX || fromY > toY || fromZ > toZ) {
+            return new Location[0];
+        }
+        return new Location[]{
+                Location.at(pos1.getWorldName(), fromX + minX, fromY + minY, fromZ + minZ),
+                Location.at(pos1.getWorldName(), toX + minX, toY + minY, toZ + minZ)
+        };
+    }
+
     @Override
     public boolean setTile(int x, int y, int z, @NonNull CompoundTag tag) {
         return x >= 0 && x <= dx && y >= 0 && y <= dy && z >= 0 && z <= dz && super.setTile(x + minX, y + minY, z + minZ, tag);
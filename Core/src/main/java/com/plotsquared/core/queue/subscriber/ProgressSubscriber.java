@@ -30,6 +30,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface ProgressSubscriber {
 
+    /**
+     * Notify the subscriber that its parent ChunkCoordinator has started
+     *
+     * @param coordinator Coordinator instance that has started
+     * @since 6.8.0
+     */
+    default void notifyStart(final @NonNull ChunkCoordinator coordinator) {
+    }
+
     /**
      * Notify about a progress update in the coordinator
      *
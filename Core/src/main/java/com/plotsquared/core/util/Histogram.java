@@ -0,0 +1,134 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe histogram of non-negative values, using power of two sized buckets.
+ * Percentiles are therefore only accurate to the upper bound of the bucket they fall into.
+ *
+ * @since 6.8.0
+ */
+public final class Histogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    private static int bucketOf(long value) {
+        return value <= 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Record a value. Negative values are recorded as {@code 0}.
+     *
+     * @param value value to record
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        this.buckets.incrementAndGet(Math.min(BUCKETS - 1, bucketOf(value)));
+        this.count.incrementAndGet();
+        this.sum.addAndGet(value);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the amount of recorded values.
+     *
+     * @return amount of recorded values
+     */
+    public long getCount() {
+        return this.count.get();
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return largest recorded value, {@code 0} if nothing has been recorded
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Get the mean of all recorded values.
+     *
+     * @return mean, {@code 0} if nothing has been recorded
+     */
+    public double getMean() {
+        long count = this.count.get();
+        return count == 0 ? 0 : (double) this.sum.get() / count;
+    }
+
+    /**
+     * Get an upper bound of the given percentile of all recorded values.
+     *
+     * @param percentile percentile between {@code 0} and {@code 1}
+     * @return upper bound of the bucket containing the percentile, never larger than {@link #getMax()}
+     */
+    public long getPercentile(double percentile) {
+        long count = this.count.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(count * Math.min(1, Math.max(0, percentile)));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.buckets.get(i);
+            if (seen >= target) {
+                long upper = i == 0 ? 0 : i >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upper, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Remove all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.count.set(0);
+        this.sum.set(0);
+        this.max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d, mean=%.1f, p50=%d, p95=%d, p99=%d, max=%d",
+                getCount(), getMean(), getPercentile(0.5), getPercentile(0.95), getPercentile(0.99), getMax()
+        );
+    }
+
+}
@@ -26,9 +26,12 @@
 package com.plotsquared.core.util.query;
 
 import com.plotsquared.core.plot.Plot;
+import com.plotsquared.core.plot.PlotArea;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-class AliasFilter implements PlotFilter {
+import java.util.Collection;
+
+class AliasFilter implements IndexedPlotFilter {
 
     private final String alias;
 
@@ -41,4 +44,13 @@ class AliasFilter implements PlotFilter {
         return this.alias.equalsIgnoreCase(plot.getAlias());
     }
 
+    @Override
+    public @NonNull Collection<Plot> getIndexedPlots(final @NonNull PlotArea area) {
+        // Plots without an alias aren't indexed
+        if (this.alias.isEmpty()) {
+            return area.getPlots();
+        }
+        return area.getPlotsByAlias(this.alias);
+    }
+
 }
@@ -30,6 +30,7 @@ import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -42,6 +43,10 @@ class GlobalPlotProvider implements PlotProvider {
         this.plotAreaManager = plotAreaManager;
     }
 
+    @NonNull Collection<PlotArea> getAreas() {
+        return Arrays.asList(this.plotAreaManager.getAllPlotAreas());
+    }
+
     @Override
     public Collection<Plot> getPlots() {
         final Set<Plot> plots = new HashSet<>();
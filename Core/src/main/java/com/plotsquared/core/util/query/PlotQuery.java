@@ -35,6 +35,7 @@ import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
 import com.plotsquared.core.util.MathMan;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -317,16 +318,12 @@ public final class PlotQuery implements Iterable<Plot> {
         if (this.filters.isEmpty()) {
             result = new ArrayList<>(this.plotProvider.getPlots());
         } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
+            final Collection<Plot> plots = this.getCandidates();
             result = new ArrayList<>(plots.size());
-            outer:
             for (final Plot plot : plots) {
-                for (final PlotFilter filter : this.filters) {
-                    if (!filter.accepts(plot)) {
-                        continue outer;
-                    }
+                if (this.matches(plot)) {
+                    result.add(plot);
                 }
-                result.add(plot);
             }
         }
         if (this.sortingStrategy == SortingStrategy.NO_SORTING) {
@@ -414,7 +411,25 @@ public final class PlotQuery implements Iterable<Plot> {
      * @return Result count
      */
     public int count() {
-        return this.asList().size();
+        // The sorting strategy doesn't change the count, so the result list isn't needed
+        if (this.filters.isEmpty()) {
+            final Collection<PlotArea> areas = this.getAreas();
+            if (areas == null) {
+                return this.plotProvider.getPlots().size();
+            }
+            int count = 0;
+            for (final PlotArea area : areas) {
+                count += area.getPlotCount();
+            }
+            return count;
+        }
+        int count = 0;
+        for (final Plot plot : this.getCandidates()) {
+            if (this.matches(plot)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -425,21 +440,87 @@ public final class PlotQuery implements Iterable<Plot> {
      */
     public boolean anyMatch() {
         if (this.filters.isEmpty()) {
-            return !this.plotProvider.getPlots().isEmpty();
-        } else {
-            final Collection<Plot> plots = this.plotProvider.getPlots();
-            outer:
-            for (final Plot plot : plots) {
-                // a plot must pass all filters to match the criteria
-                for (final PlotFilter filter : this.filters) {
-                    if (!filter.accepts(plot)) {
-                        continue outer;
-                    }
+            final Collection<PlotArea> areas = this.getAreas();
+            if (areas == null) {
+                return !this.plotProvider.getPlots().isEmpty();
+            }
+            for (final PlotArea area : areas) {
+                if (area.getPlotCount() > 0) {
+                    return true;
                 }
-                return true; // a plot passed all filters, so we have a match
             }
             return false;
         }
+        for (final Plot plot : this.getCandidates()) {
+            if (this.matches(plot)) {
+                return true; // a plot passed all filters, so we have a match
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a plot passes all filters of the query
+     *
+     * @param plot Plot to check
+     * @return {@code true} if the plot passes every filter
+     */
+    private boolean matches(final @NonNull Plot plot) {
+        for (final PlotFilter filter : this.filters) {
+            if (!filter.accepts(plot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the areas the plot provider takes its plots from, if it provides all plots in those areas
+     *
+     * @return Areas of the provider, or {@code null} if the provider only provides some plots
+     */
+    private @Nullable Collection<PlotArea> getAreas() {
+        if (this.plotProvider instanceof GlobalPlotProvider) {
+            return ((GlobalPlotProvider) this.plotProvider).getAreas();
+        } else if (this.plotProvider instanceof AreaLimitedPlotProvider) {
+            return ((AreaLimitedPlotProvider) this.plotProvider).getAreas();
+        }
+        return null;
+    }
+
+    /**
+     * Get the plots that have to be checked against the filters. If the provider takes all plots of
+     * some areas, the indexes of the areas are used instead for every {@link IndexedPlotFilter} and
+     * the smallest candidate set drives the query. All filters are still applied to the candidates,
+     * so the index only has to be selective, not exact.
+     *
+     * @return Plots to filter
+     */
+    private @NonNull Collection<Plot> getCandidates() {
+        final Collection<PlotArea> areas = this.getAreas();
+        if (areas == null) {
+            return this.plotProvider.getPlots();
+        }
+        List<Plot> candidates = null;
+        for (final PlotFilter filter : this.filters) {
+            if (!(filter instanceof IndexedPlotFilter)) {
+                continue;
+            }
+            final List<Plot> plots = new ArrayList<>();
+            for (final PlotArea area : areas) {
+                plots.addAll(((IndexedPlotFilter) filter).getIndexedPlots(area));
+                if (candidates != null && plots.size() >= candidates.size()) {
+                    break;
+                }
+            }
+            if (candidates == null || plots.size() < candidates.size()) {
+                candidates = plots;
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return candidates == null ? this.plotProvider.getPlots() : candidates;
     }
 
     @NonNull
@@ -0,0 +1,83 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.collection;
+
+import com.plotsquared.core.plot.PlotId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class ConcurrentLongMapTest {
+
+    @Test
+    public void putGetRemove() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+        Assertions.assertNull(map.put(PlotId.pack(-3, 7), "a"));
+        Assertions.assertEquals("a", map.put(PlotId.pack(-3, 7), "b"));
+        Assertions.assertEquals("b", map.get(PlotId.pack(-3, 7)));
+        Assertions.assertNull(map.get(PlotId.pack(7, -3)));
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertEquals("b", map.remove(PlotId.pack(-3, 7)));
+        Assertions.assertNull(map.remove(PlotId.pack(-3, 7)));
+        Assertions.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void matchesHashMap() {
+        // many keys, so that the segments resize and removals have to shift colliding entries
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = PlotId.pack(random.nextInt(200) - 100, random.nextInt(200) - 100);
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                Assertions.assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        Assertions.assertEquals(expected.size(), map.size());
+        for (int x = -100; x < 100; x++) {
+            for (int y = -100; y < 100; y++) {
+                long key = PlotId.pack(x, y);
+                Assertions.assertEquals(expected.get(key), map.get(key));
+            }
+        }
+        map.clear();
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertNull(map.get(PlotId.pack(0, 0)));
+    }
+
+    @Test
+    public void packRoundTrip() {
+        PlotId id = PlotId.of(-70000, 123456);
+        Assertions.assertEquals(id, PlotId.unpack(id.pack()));
+    }
+
+}
@@ -127,6 +127,16 @@ public class AbstractDBTest implements AbstractDB {
         return null;
     }
 
+    @Override
+    public HashMap<PlotId, Plot> getPlots(PlotArea area) {
+        return null;
+    }
+
+    @Override
+    public boolean hasPendingChanges(PlotArea area) {
+        return false;
+    }
+
     @Override
     public void validateAllPlots(Set<Plot> toValidate) {
     }
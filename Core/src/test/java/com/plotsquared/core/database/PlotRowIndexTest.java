@@ -0,0 +1,70 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.database;
+
+import com.plotsquared.core.plot.PlotId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PlotRowIndexTest {
+
+    @Test
+    public void putGetRemove() {
+        PlotRowIndex index = new PlotRowIndex();
+        index.put("world", PlotId.of(1, 2), 10);
+        index.put("world", PlotId.of(0, 0), 0);
+        Assertions.assertEquals(10, index.get("world", PlotId.of(1, 2)));
+        Assertions.assertEquals(0, index.get("other", PlotId.of(1, 2)));
+        Assertions.assertEquals(0, index.get("world", PlotId.of(0, 0)));
+
+        // A plot that was re-inserted under a new row keeps its new row
+        index.remove("world", PlotId.of(1, 2), 9);
+        Assertions.assertEquals(10, index.get("world", PlotId.of(1, 2)));
+        index.remove("world", PlotId.of(1, 2), 10);
+        Assertions.assertEquals(0, index.get("world", PlotId.of(1, 2)));
+    }
+
+    @Test
+    public void movedPlotLeavesNoStaleKey() {
+        PlotRowIndex index = new PlotRowIndex();
+        index.put("world", PlotId.of(1, 1), 5);
+        index.put("world", PlotId.of(2, 2), 6);
+        // Plot 1;1 is moved to 3;3 after its id has already been changed, like SQLManager#movePlot does
+        index.removeRows(Collections.singleton(5));
+        index.put("world", PlotId.of(3, 3), 5);
+        Assertions.assertEquals(0, index.get("world", PlotId.of(1, 1)));
+        Assertions.assertEquals(5, index.get("world", PlotId.of(3, 3)));
+        Assertions.assertEquals(6, index.get("world", PlotId.of(2, 2)));
+
+        index.removeRows(List.of(5, 6));
+        Assertions.assertEquals(0, index.get("world", PlotId.of(3, 3)));
+        Assertions.assertEquals(0, index.get("world", PlotId.of(2, 2)));
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.database;
+
+import com.plotsquared.core.database.SQLManager.UniqueStatement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+public class StatementCoalescerTest {
+
+    private DatabaseStatistics statistics;
+    private StatementCoalescer<String> coalescer;
+    private Queue<UniqueStatement> queue;
+
+    private static UniqueStatement statement(String method, String key, boolean cancels) {
+        return new UniqueStatement(method, key, cancels) {
+            @Override
+            public PreparedStatement get(Connection connection) {
+                return null;
+            }
+
+            @Override
+            public void set(PreparedStatement statement) {
+            }
+        };
+    }
+
+    @BeforeEach
+    public void setUp() {
+        this.statistics = new DatabaseStatistics();
+        this.coalescer = new StatementCoalescer<>(this.statistics);
+        this.queue = new ArrayDeque<>();
+    }
+
+    private void add(UniqueStatement task) {
+        if (!this.coalescer.coalesce("plot", this.queue, task)) {
+            this.queue.add(task);
+            this.statistics.statementQueued();
+        }
+    }
+
+    @Test
+    public void statementReplacesQueuedValue() {
+        UniqueStatement first = statement("setFlag", "flag:fly", false);
+        first.queuedAt = 10;
+        add(first);
+        UniqueStatement second = statement("setFlag", "flag:fly", false);
+        add(second);
+        Assertions.assertEquals(1, this.queue.size());
+        Assertions.assertSame(second, this.queue.peek());
+        // The replacement keeps the age of the statement it replaced
+        Assertions.assertEquals(10, second.queuedAt);
+        Assertions.assertEquals(1, this.statistics.getElidedStatements());
+        Assertions.assertEquals(1, this.statistics.getQueueDepth());
+
+        // Other keys are not merged
+        add(statement("setFlag", "flag:pvp", false));
+        Assertions.assertEquals(2, this.queue.size());
+    }
+
+    @Test
+    public void oppositeStatementsCancel() {
+        add(statement("setTrusted", "trusted:a", true));
+        add(statement("removeTrusted", "trusted:a", true));
+        Assertions.assertTrue(this.queue.isEmpty());
+        Assertions.assertEquals(2, this.statistics.getElidedStatements());
+        Assertions.assertEquals(0, this.statistics.getQueueDepth());
+
+        // Repeating the same statement replaces it instead
+        add(statement("setTrusted", "trusted:a", true));
+        add(statement("setTrusted", "trusted:a", true));
+        Assertions.assertEquals(1, this.queue.size());
+    }
+
+    @Test
+    public void statementsAreNotMergedAcrossBarrier() {
+        add(statement("setAlias", "alias", false));
+        add(statement("createPlot", null, false));
+        add(statement("setAlias", "alias", false));
+        Assertions.assertEquals(3, this.queue.size());
+        Assertions.assertEquals(0, this.statistics.getElidedStatements());
+    }
+
+    @Test
+    public void statementTakenByWriterIsNotMerged() {
+        add(statement("setTrusted", "trusted:a", true));
+        // A writer took the statement before the opposite one was queued
+        this.queue.poll();
+        UniqueStatement remove = statement("removeTrusted", "trusted:a", true);
+        add(remove);
+        Assertions.assertEquals(1, this.queue.size());
+        Assertions.assertSame(remove, this.queue.peek());
+
+        // Forgetting the owner stops merging with statements it still knows about
+        this.coalescer.remove("plot");
+        add(statement("setTrusted", "trusted:a", true));
+        Assertions.assertEquals(2, this.queue.size());
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.plotsquared.core.util.MathMan;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class RegionAnalyzerTest {
+
+    private static final int AIR = RegionAnalyzer.encode(0, true, false, false);
+
+    /**
+     * Analyse a region chunk by chunk, with blocks indexed by [yIndex][x][z] relative to the region
+     */
+    private static PlotAnalysis analyzeChunked(int bx, int bz, int[][][] blocks) {
+        int height = blocks.length;
+        int width = blocks[0].length;
+        int length = blocks[0][0].length;
+        RegionAnalyzer analyzer = new RegionAnalyzer(bx, bz, width, length, 0, height);
+        for (int chunkX = bx >> 4; chunkX <= (bx + width - 1) >> 4; chunkX++) {
+            for (int chunkZ = bz >> 4; chunkZ <= (bz + length - 1) >> 4; chunkZ++) {
+                int minX = analyzer.getMinX(chunkX);
+                int minZ = analyzer.getMinZ(chunkZ);
+                int sizeX = analyzer.getMaxX(chunkX) - minX + 1;
+                int sizeZ = analyzer.getMaxZ(chunkZ) - minZ + 1;
+                int[] chunk = new int[height * sizeZ * sizeX];
+                for (int yIndex = 0; yIndex < height; yIndex++) {
+                    for (int z = 0; z < sizeZ; z++) {
+                        for (int x = 0; x < sizeX; x++) {
+                            int xr = (chunkX << 4) + minX + x - bx;
+                            int zr = (chunkZ << 4) + minZ + z - bz;
+                            chunk[(yIndex * sizeZ + z) * sizeX + x] = blocks[yIndex][xr][zr];
+                        }
+                    }
+                }
+                analyzer.analyzeChunk(chunkX, chunkZ, chunk);
+            }
+        }
+        return analyzer.finish();
+    }
+
+    /**
+     * Analyse a whole region at once, the way regions were analysed before they were split into chunks
+     */
+    private static PlotAnalysis analyzeWhole(int[][][] blocks) {
+        int height = blocks.length;
+        int width = blocks[0].length;
+        int length = blocks[0][0].length;
+        int size = width * length;
+        int[] changes = new int[size];
+        int[] faces = new int[size];
+        int[] data = new int[size];
+        int[] air = new int[size];
+        int[] variety = new int[size];
+        int i = 0;
+        for (int x = 0; x < width; x++) {
+            for (int z = 0; z < length; z++) {
+                Set<Integer> types = new HashSet<>();
+                for (int yIndex = 0; yIndex < height; yIndex++) {
+                    int now = blocks[yIndex][x][z];
+                    if ((now & RegionAnalyzer.CHANGED) != 0) {
+                        changes[i]++;
+                    }
+                    if (isAir(now)) {
+                        air[i]++;
+                        continue;
+                    }
+                    if (x > 0 && z > 0 && yIndex > 0 && x < width - 1 && z < length - 1 && yIndex < height - 1) {
+                        faces[i] += (isAir(blocks[yIndex - 1][x][z]) ? 1 : 0) + (isAir(blocks[yIndex + 1][x][z]) ? 1 : 0)
+                                + (isAir(blocks[yIndex][x - 1][z]) ? 1 : 0) + (isAir(blocks[yIndex][x + 1][z]) ? 1 : 0)
+                                + (isAir(blocks[yIndex][x][z - 1]) ? 1 : 0) + (isAir(blocks[yIndex][x][z + 1]) ? 1 : 0);
+                    }
+                    if ((now & RegionAnalyzer.DATA) != 0) {
+                        data[i]++;
+                    }
+                    types.add(now >>> RegionAnalyzer.TYPE_SHIFT);
+                }
+                variety[i++] = types.size();
+            }
+        }
+        PlotAnalysis analysis = new PlotAnalysis();
+        analysis.changes = (int) (MathMan.getMean(changes) * 100);
+        analysis.faces = (int) (MathMan.getMean(faces) * 100);
+        analysis.data = (int) (MathMan.getMean(data) * 100);
+        analysis.air = (int) (MathMan.getMean(air) * 100);
+        analysis.variety = (int) (MathMan.getMean(variety) * 100);
+        analysis.changes_sd = (int) (MathMan.getSD(changes, analysis.changes) * 100);
+        analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
+        analysis.data_sd = (int) (MathMan.getSD(data, analysis.data) * 100);
+        analysis.air_sd = (int) (MathMan.getSD(air, analysis.air) * 100);
+        analysis.variety_sd = (int) (MathMan.getSD(variety, analysis.variety) * 100);
+        return analysis;
+    }
+
+    private static boolean isAir(int block) {
+        return (block & RegionAnalyzer.AIR) != 0;
+    }
+
+    private static void assertSameAnalysis(PlotAnalysis expected, PlotAnalysis actual) {
+        Assertions.assertEquals(expected.changes, actual.changes);
+        Assertions.assertEquals(expected.faces, actual.faces);
+        Assertions.assertEquals(expected.data, actual.data);
+        Assertions.assertEquals(expected.air, actual.air);
+        Assertions.assertEquals(expected.variety, actual.variety);
+        Assertions.assertEquals(expected.changes_sd, actual.changes_sd);
+        Assertions.assertEquals(expected.faces_sd, actual.faces_sd);
+        Assertions.assertEquals(expected.data_sd, actual.data_sd);
+        Assertions.assertEquals(expected.air_sd, actual.air_sd);
+        Assertions.assertEquals(expected.variety_sd, actual.variety_sd);
+    }
+
+    @Test
+    public void chunkedAnalysisMatchesWholeRegion() {
+        Random random = new Random(42);
+        // The region starts and ends within chunks, so that partial chunks and every chunk border are covered
+        int[][][] blocks = new int[12][37][29];
+        for (int[][] layer : blocks) {
+            for (int[] row : layer) {
+                for (int z = 0; z < row.length; z++) {
+                    if (random.nextInt(3) == 0) {
+                        row[z] = AIR;
+                    } else {
+                        row[z] = RegionAnalyzer.encode(1 + random.nextInt(4), false, true, random.nextBoolean());
+                    }
+                }
+            }
+        }
+        assertSameAnalysis(analyzeWhole(blocks), analyzeChunked(-21, 5, blocks));
+    }
+
+    @Test
+    public void solidCubeHasFacesOnlyAtItsSides() {
+        int[][][] blocks = new int[5][20][20];
+        for (int yIndex = 0; yIndex < blocks.length; yIndex++) {
+            for (int x = 0; x < 20; x++) {
+                for (int z = 0; z < 20; z++) {
+                    // A 2x2x2 cube across the border of two chunks
+                    boolean cube = yIndex >= 1 && yIndex <= 2 && x >= 6 && x <= 7 && z >= 3 && z <= 4;
+                    blocks[yIndex][x][z] = cube ? RegionAnalyzer.encode(1, false, true, false) : AIR;
+                }
+            }
+        }
+        PlotAnalysis analysis = analyzeChunked(9, 0, blocks);
+        assertSameAnalysis(analyzeWhole(blocks), analysis);
+        // Every block of the cube has three faces towards air, over 400 columns
+        Assertions.assertEquals(8 * 3 * 100 / 400, analysis.faces);
+    }
+
+}
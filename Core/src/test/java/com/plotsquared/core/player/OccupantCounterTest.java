@@ -0,0 +1,66 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.player;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OccupantCounterTest {
+
+    @Test
+    public void occupantsFollowMoves() {
+        OccupantCounter<String> counter = new OccupantCounter<>();
+        counter.move(null, "a");
+        counter.move(null, "a");
+        Assertions.assertTrue(counter.isOccupied("a"));
+        Assertions.assertEquals(2, counter.getOccupants("a"));
+
+        counter.move("a", "b");
+        Assertions.assertEquals(1, counter.getOccupants("a"));
+        Assertions.assertEquals(1, counter.getOccupants("b"));
+
+        // Moving within the same key changes nothing
+        counter.move("b", "b");
+        Assertions.assertEquals(1, counter.getOccupants("b"));
+
+        counter.move("a", null);
+        counter.move("b", null);
+        Assertions.assertFalse(counter.isOccupied("a"));
+        Assertions.assertFalse(counter.isOccupied("b"));
+        Assertions.assertEquals(0, counter.size());
+    }
+
+    @Test
+    public void leavingUncountedKeyIsIgnored() {
+        OccupantCounter<String> counter = new OccupantCounter<>();
+        counter.move("a", null);
+        Assertions.assertEquals(0, counter.getOccupants("a"));
+        Assertions.assertEquals(0, counter.size());
+        counter.move(null, null);
+        Assertions.assertEquals(0, counter.size());
+    }
+
+}
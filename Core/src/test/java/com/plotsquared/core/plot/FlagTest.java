@@ -28,9 +28,12 @@ package com.plotsquared.core.plot;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.AbstractDBTest;
 import com.plotsquared.core.database.DBFunc;
+import com.plotsquared.core.plot.flag.FlagContainer;
 import com.plotsquared.core.plot.flag.FlagParseException;
+import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.PlotTitleFlag;
+import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.flag.implementations.UseFlag;
 import com.sk89q.worldedit.world.item.ItemType;
 import org.apache.logging.log4j.LogManager;
@@ -77,6 +80,28 @@ public class FlagTest {
         Assertions.assertEquals("use", flagName);
     }
 
+    @Test
+    public void shouldResolveFlagsThroughParentContainers() {
+        if (GlobalFlagContainer.getInstance() == null) {
+            GlobalFlagContainer.setup();
+        }
+        final FlagContainer area = new FlagContainer(GlobalFlagContainer.getInstance());
+        final FlagContainer plot = new FlagContainer(area);
+        Assertions.assertFalse(plot.getFlag(ServerPlotFlag.class).getValue());
+
+        area.addFlag(ServerPlotFlag.SERVER_PLOT_TRUE);
+        Assertions.assertTrue(plot.getFlag(ServerPlotFlag.class).getValue());
+
+        plot.addFlag(ServerPlotFlag.SERVER_PLOT_FALSE);
+        Assertions.assertFalse(plot.getFlag(ServerPlotFlag.class).getValue());
+
+        plot.removeFlag(ServerPlotFlag.SERVER_PLOT_FALSE);
+        Assertions.assertTrue(plot.getFlag(ServerPlotFlag.class).getValue());
+
+        plot.setParentContainer(GlobalFlagContainer.getInstance());
+        Assertions.assertFalse(plot.getFlag(ServerPlotFlag.class).getValue());
+    }
+
     @Test
     public void shouldSuccessfullyParseTitleFlagWithTitleSingularAndSubTitleEmpty() {
         Assertions.assertDoesNotThrow(() -> {
@@ -0,0 +1,81 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.expiration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VersionedCacheTest {
+
+    @Test
+    public void valueIsServedUntilModified() {
+        VersionedCache<String, String> cache = new VersionedCache<>(16);
+        cache.put("plot", cache.getVersion("plot"), "analysis");
+        Assertions.assertEquals("analysis", cache.get("plot"));
+
+        cache.markModified("plot");
+        Assertions.assertNull(cache.get("plot"));
+        Assertions.assertNull(cache.get("other"));
+    }
+
+    @Test
+    public void writeDuringAnalysisIsNotServed() {
+        VersionedCache<String, String> cache = new VersionedCache<>(16);
+        // An analysis reads the version, then a queue write lands before the analysis finishes
+        long version = cache.getVersion("plot");
+        cache.markModified("plot");
+        cache.put("plot", version, "outdated");
+        Assertions.assertNull(cache.get("plot"));
+
+        // The next analysis sees the write
+        cache.put("plot", cache.getVersion("plot"), "analysis");
+        Assertions.assertEquals("analysis", cache.get("plot"));
+    }
+
+    @Test
+    public void invalidateDropsValue() {
+        VersionedCache<String, String> cache = new VersionedCache<>(16);
+        cache.put("plot", cache.getVersion("plot"), "analysis");
+        cache.invalidate("plot");
+        Assertions.assertNull(cache.get("plot"));
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        VersionedCache<Integer, String> cache = new VersionedCache<>(16);
+        long version = cache.getVersion(-1);
+        for (int i = 0; i < 100; i++) {
+            cache.markModified(i);
+            Assertions.assertTrue(cache.size() <= 16);
+        }
+        // Analyses started before the keys were dropped cannot tell whether they missed a write
+        cache.put(-1, version, "outdated");
+        Assertions.assertNull(cache.get(-1));
+        cache.put(-1, cache.getVersion(-1), "analysis");
+        Assertions.assertEquals("analysis", cache.get(-1));
+    }
+
+}
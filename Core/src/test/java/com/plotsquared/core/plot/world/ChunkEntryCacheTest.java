@@ -0,0 +1,91 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot.world;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ChunkEntryCacheTest {
+
+    @Test
+    public void chunkIsClassifiedOnce() {
+        List<String> classified = new ArrayList<>();
+        ChunkEntryCache<String> cache = new ChunkEntryCache<>(16, (chunkX, y, chunkZ) -> {
+            classified.add(chunkX + "," + chunkZ);
+            return chunkX + "," + chunkZ;
+        });
+        Assertions.assertEquals("0,0", cache.get(0, 64, 0));
+        Assertions.assertEquals("0,0", cache.get(15, 10, 15));
+        Assertions.assertEquals("-1,-1", cache.get(-1, 64, -16));
+        Assertions.assertEquals("-2,1", cache.get(-17, 64, 16));
+        Assertions.assertEquals(List.of("0,0", "-1,-1", "-2,1"), classified);
+    }
+
+    @Test
+    public void clearForcesClassification() {
+        int[] classified = new int[1];
+        ChunkEntryCache<Integer> cache = new ChunkEntryCache<>(16, (chunkX, y, chunkZ) -> ++classified[0]);
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(0, 0, 0));
+        long generation = cache.getGeneration();
+        cache.clear();
+        Assertions.assertNotEquals(generation, cache.getGeneration());
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(Integer.valueOf(2), cache.get(0, 0, 0));
+        Assertions.assertEquals(Integer.valueOf(2), cache.get(0, 0, 0));
+    }
+
+    @Test
+    public void entryClassifiedDuringClearIsNotKept() {
+        int[] classified = new int[1];
+        AtomicReference<ChunkEntryCache<Integer>> holder = new AtomicReference<>();
+        holder.set(new ChunkEntryCache<>(16, (chunkX, y, chunkZ) -> {
+            if (classified[0]++ == 0) {
+                // The plots change while the first classification is running
+                holder.get().clear();
+            }
+            return classified[0];
+        }));
+        ChunkEntryCache<Integer> cache = holder.get();
+        Assertions.assertEquals(Integer.valueOf(1), cache.get(0, 0, 0));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(Integer.valueOf(2), cache.get(0, 0, 0));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        ChunkEntryCache<String> cache = new ChunkEntryCache<>(16, (chunkX, y, chunkZ) -> "chunk");
+        for (int chunkX = 0; chunkX < 100; chunkX++) {
+            cache.get(chunkX << 4, 0, 0);
+            Assertions.assertTrue(cache.size() <= 16);
+        }
+    }
+
+}
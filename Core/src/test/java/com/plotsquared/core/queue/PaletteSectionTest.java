@@ -0,0 +1,121 @@
+/*
+ *       _____  _       _    _____                                _
+ *      |  __ \| |     | |  / ____|                              | |
+ *      | |__) | | ___ | |_| (___   __ _ _   _  __ _ _ __ ___  __| |
+ *      |  ___/| |/ _ \| __|\___ \ / _` | | | |/ _` | '__/ _ \/ _` |
+ *      | |    | | (_) | |_ ____) | (_| | |_| | (_| | | |  __/ (_| |
+ *      |_|    |_|\___/ \__|_____/ \__, |\__,_|\__,_|_|  \___|\__,_|
+ *                                    | |
+ *                                    |_|
+ *            PlotSquared plot management system for Minecraft
+ *               Copyright (C) 2014 - 2022 IntellectualSites
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PaletteSectionTest {
+
+    @Test
+    public void fullySetSectionBecomesUniform() {
+        PaletteSection<String> section = new PaletteSection<>();
+        for (int i = 0; i < PaletteSection.SIZE; i++) {
+            section.set(i, "stone");
+            Assertions.assertEquals(i == PaletteSection.SIZE - 1, section.isUniform());
+        }
+        Assertions.assertEquals("stone", section.getUniform());
+        Assertions.assertEquals("stone", section.get(123));
+        Assertions.assertFalse(section.isEmpty());
+    }
+
+    @Test
+    public void overwrittenSectionBecomesUniform() {
+        PaletteSection<String> section = new PaletteSection<>();
+        for (int i = 0; i < PaletteSection.SIZE; i++) {
+            section.set(i, i % 2 == 0 ? "stone" : "dirt");
+        }
+        Assertions.assertFalse(section.isUniform());
+        Assertions.assertNull(section.getUniform());
+        for (int i = 1; i < PaletteSection.SIZE; i += 2) {
+            section.set(i, "stone");
+        }
+        Assertions.assertTrue(section.isUniform());
+        Assertions.assertEquals("stone", section.getUniform());
+
+        // Unsetting every position leaves an empty section
+        for (int i = 0; i < PaletteSection.SIZE; i++) {
+            section.set(i, null);
+        }
+        Assertions.assertTrue(section.isUniform());
+        Assertions.assertTrue(section.isEmpty());
+    }
+
+    @Test
+    public void valuesRoundTripAcrossBitWidths() {
+        // Each amount of distinct values needs a wider index than the one before
+        for (int distinct : new int[]{2, 3, 5, 17, 300, PaletteSection.SIZE}) {
+            PaletteSection<Integer> section = new PaletteSection<>();
+            for (int i = 0; i < PaletteSection.SIZE; i++) {
+                section.set(i, i % distinct);
+            }
+            for (int i = 0; i < PaletteSection.SIZE; i++) {
+                Assertions.assertEquals(Integer.valueOf(i % distinct), section.get(i));
+            }
+            Assertions.assertFalse(section.isUniform());
+        }
+    }
+
+    @Test
+    public void overwrittenValuesAreCompacted() {
+        PaletteSection<Integer> section = new PaletteSection<>();
+        // Far more distinct values than a 16 bit palette holds are written over time
+        int written = 1 << 17;
+        for (int value = 0; value < written; value++) {
+            section.set(value % PaletteSection.SIZE, value);
+        }
+        for (int i = 0; i < PaletteSection.SIZE; i++) {
+            Assertions.assertEquals(Integer.valueOf(written - PaletteSection.SIZE + i), section.get(i));
+        }
+    }
+
+    @Test
+    public void forEachVisitsSetPositions() {
+        PaletteSection<String> section = new PaletteSection<>();
+        Assertions.assertTrue(section.isEmpty());
+        section.forEach((index, value) -> Assertions.fail("An empty section has no set positions"));
+
+        section.set(7, "stone");
+        section.set(4000, "dirt");
+        Assertions.assertFalse(section.isEmpty());
+        List<String> visited = new ArrayList<>();
+        section.forEach((index, value) -> visited.add(index + "=" + value));
+        Assertions.assertEquals(List.of("7=stone", "4000=dirt"), visited);
+
+        section.set(7, null);
+        section.set(4000, null);
+        Assertions.assertTrue(section.isEmpty());
+
+        section.fill("air");
+        int[] count = new int[1];
+        section.forEach((index, value) -> count[0]++);
+        Assertions.assertEquals(PaletteSection.SIZE, count[0]);
+    }
+
+}